@@ -0,0 +1,12 @@
+package com.flash.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+// MVC 스택과 같은 DB, 같은 API 경로를 쓰는 논블로킹 스택
+@SpringBootApplication(scanBasePackages = {"com.flash.reactive", "com.flash.common.exception"})
+public class FlashReactiveApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(FlashReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,15 @@
+package com.flash.reactive.common;
+
+import com.flash.common.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${flash.id.node-id:0}") long nodeId) {
+        return new SnowflakeIdGenerator(nodeId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.flash.reactive.item.controller;
+
+import com.flash.item.exception.ItemException;
+import com.flash.reactive.item.dto.ItemResponse;
+import com.flash.reactive.item.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/items")
+@RequiredArgsConstructor
+public class ItemController {
+    
+    private final ItemRepository itemRepository;
+    
+    @GetMapping
+    public Flux<ItemResponse> getItems() {
+        return itemRepository.findAllOnSale(LocalDateTime.now())
+            .map(ItemResponse::from);
+    }
+    
+    @GetMapping("/{id}")
+    public Mono<ItemResponse> getItem(@PathVariable Long id) {
+        return itemRepository.findById(id)
+            .switchIfEmpty(Mono.error(ItemException.ItemNotFoundException::new))
+            .map(ItemResponse::from);
+    }
+}
@@ -0,0 +1,36 @@
+package com.flash.reactive.item.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+// 재고 변경은 조건부 UPDATE 쿼리로만 하므로 읽기 전용으로 매핑
+@Table("flash_sale_items")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Item {
+    
+    @Id
+    private Long id;
+    
+    private String name;
+    
+    private String description;
+    
+    private Integer price;
+    
+    private Integer stock;
+    
+    @Column("sale_start")
+    private LocalDateTime saleStart;
+    
+    @Column("sale_end")
+    private LocalDateTime saleEnd;
+    
+    @Column("created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.flash.reactive.item.repository;
+
+import com.flash.reactive.item.domain.Item;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.LocalDateTime;
+
+public interface ItemRepository extends ReactiveCrudRepository<Item, Long> {
+    
+    @Query("SELECT * FROM flash_sale_items WHERE sale_start <= :now AND sale_end >= :now")
+    Flux<Item> findAllOnSale(@Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE flash_sale_items SET stock = stock - :quantity, version = version + 1 "
+        + "WHERE id = :id AND stock >= :quantity")
+    Mono<Integer> decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+}
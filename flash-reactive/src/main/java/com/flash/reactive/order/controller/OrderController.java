@@ -0,0 +1,32 @@
+package com.flash.reactive.order.controller;
+
+import com.flash.reactive.order.dto.OrderResponse;
+import com.flash.reactive.order.service.PurchaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class OrderController {
+    
+    private final PurchaseService purchaseService;
+    
+    @PostMapping("/purchase")
+    public Mono<OrderResponse> purchaseItem(
+        @RequestParam Long itemId, 
+        @RequestParam Long userId,
+        @RequestParam(defaultValue = "1") Integer quantity
+    ) {
+        return purchaseService.purchase(userId, itemId, quantity);
+    }
+    
+    @GetMapping("/orders")
+    public Flux<OrderResponse> getOrders(
+        @RequestParam Long userId
+    ) {
+        return purchaseService.getOrdersByUserId(userId);
+    }
+}
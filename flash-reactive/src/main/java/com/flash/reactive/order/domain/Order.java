@@ -0,0 +1,53 @@
+package com.flash.reactive.order.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+// ID를 애플리케이션에서 발급하므로 새 주문은 R2dbcEntityTemplate.insert 로 저장한다
+@Table("flash_orders")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Order {
+    
+    @Id
+    private Long id;
+    
+    @Column("user_id")
+    private Long userId;
+    
+    @Column("item_id")
+    private Long itemId;
+    
+    private Integer quantity;
+    
+    private OrderStatus status;
+    
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    
+    @Builder
+    public Order(Long id, Long userId, Long itemId, Integer quantity) {
+        this.id = id;
+        this.userId = userId;
+        this.itemId = itemId;
+        this.quantity = quantity;
+        this.status = OrderStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public void complete() {
+        this.status = OrderStatus.PAID;
+    }
+    
+    public enum OrderStatus {
+        PENDING,    // 결제 대기
+        PAID,       // 결제 완료
+        FAILED      // 결제 실패
+    }
+}
@@ -0,0 +1,41 @@
+package com.flash.reactive.order.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.flash.reactive.item.domain.Item;
+import com.flash.reactive.order.domain.Order;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+@Getter
+public class OrderResponse {
+    // 64비트 ID는 JavaScript 숫자 범위를 넘으므로 문자열로 내려준다
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long id;
+    private final String itemName;
+    private final Integer quantity;
+    private final Integer totalAmount;
+    private final String status;
+    private final LocalDateTime createdAt;
+    
+    private OrderResponse(Long id, String itemName, Integer quantity, 
+                         Integer totalAmount, String status, LocalDateTime createdAt) {
+        this.id = id;
+        this.itemName = itemName;
+        this.quantity = quantity;
+        this.totalAmount = totalAmount;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+    
+    public static OrderResponse of(Order order, Item item) {
+        return new OrderResponse(
+            order.getId(),
+            item.getName(),
+            order.getQuantity(),
+            item.getPrice() * order.getQuantity(),
+            order.getStatus().name(),
+            order.getCreatedAt()
+        );
+    }
+}
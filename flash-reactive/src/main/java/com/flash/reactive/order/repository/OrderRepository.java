@@ -0,0 +1,9 @@
+package com.flash.reactive.order.repository;
+
+import com.flash.reactive.order.domain.Order;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface OrderRepository extends ReactiveCrudRepository<Order, Long> {
+    Flux<Order> findByUserId(Long userId);
+}
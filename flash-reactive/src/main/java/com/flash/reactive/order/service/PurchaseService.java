@@ -0,0 +1,73 @@
+package com.flash.reactive.order.service;
+
+import com.flash.common.id.SnowflakeIdGenerator;
+import com.flash.item.exception.ItemException;
+import com.flash.reactive.item.domain.Item;
+import com.flash.reactive.item.repository.ItemRepository;
+import com.flash.reactive.order.domain.Order;
+import com.flash.reactive.order.dto.OrderResponse;
+import com.flash.reactive.order.repository.OrderRepository;
+import com.flash.reactive.user.repository.UserRepository;
+import com.flash.user.exception.UserException;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class PurchaseService {
+    
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    
+    // MVC 스택의 조건부 UPDATE 방식(V5)과 같은 트랜잭션: 재고 확인과 차감을 UPDATE 한 번으로 처리
+    @Transactional
+    public Mono<OrderResponse> purchase(Long userId, Long itemId, Integer quantity) {
+        return itemRepository.findById(itemId)
+            .switchIfEmpty(Mono.error(ItemException.ItemNotFoundException::new))
+            .flatMap(item -> userRepository.existsById(userId)
+                .flatMap(exists -> exists
+                    ? Mono.just(item)
+                    : Mono.<Item>error(new UserException.UserNotFoundException())))
+            .flatMap(item -> itemRepository.decreaseStockIfAvailable(itemId, quantity)
+                .flatMap(updated -> updated == 0
+                    ? Mono.<OrderResponse>error(new ItemException.OutOfStockException())
+                    : insertOrder(userId, itemId, quantity).map(order -> OrderResponse.of(order, item))));
+    }
+    
+    @Transactional(readOnly = true)
+    public Flux<OrderResponse> getOrdersByUserId(Long userId) {
+        return orderRepository.findByUserId(userId)
+            .collectList()
+            .flatMapMany(orders -> itemRepository.findAllById(orders.stream().map(Order::getItemId).distinct().toList())
+                .collectMap(Item::getId, Function.identity())
+                .flatMapMany(items -> Flux.fromIterable(orders)
+                    .map(order -> OrderResponse.of(order, itemOf(items, order)))));
+    }
+    
+    private Mono<Order> insertOrder(Long userId, Long itemId, Integer quantity) {
+        Order order = Order.builder()
+            .id(idGenerator.nextId())
+            .userId(userId)
+            .itemId(itemId)
+            .quantity(quantity)
+            .build();
+        return entityTemplate.insert(order);
+    }
+    
+    private Item itemOf(Map<Long, Item> items, Order order) {
+        Item item = items.get(order.getItemId());
+        if (item == null) {
+            throw new ItemException.ItemNotFoundException();
+        }
+        return item;
+    }
+}
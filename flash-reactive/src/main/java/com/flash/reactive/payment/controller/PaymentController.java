@@ -0,0 +1,25 @@
+package com.flash.reactive.payment.controller;
+
+import com.flash.reactive.payment.dto.PaymentResponse;
+import com.flash.reactive.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/payment")
+@RequiredArgsConstructor
+public class PaymentController {
+    
+    private final PaymentService paymentService;
+    
+    @PostMapping
+    public Mono<PaymentResponse> createPayment(@RequestParam Long orderId) {
+        return paymentService.createPayment(orderId);
+    }
+    
+    @PostMapping("/process")
+    public Mono<PaymentResponse> processPayment(@RequestParam Long paymentId) {
+        return paymentService.processPayment(paymentId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.flash.reactive.payment.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+// ID를 애플리케이션에서 발급하므로 새 결제는 R2dbcEntityTemplate.insert 로 저장한다
+@Table("payments")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Payment {
+    
+    @Id
+    private Long id;
+    
+    @Column("order_id")
+    private Long orderId;
+    
+    private Integer amount;
+    
+    private PaymentStatus status;
+    
+    @Column("payment_key")
+    private String paymentKey;
+    
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    
+    @Column("paid_at")
+    private LocalDateTime paidAt;
+    
+    @Builder
+    public Payment(Long id, Long orderId, Integer amount) {
+        this.id = id;
+        this.orderId = orderId;
+        this.amount = amount;
+        this.status = PaymentStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public void complete() {
+        this.status = PaymentStatus.COMPLETED;
+        this.paidAt = LocalDateTime.now();
+    }
+    
+    public enum PaymentStatus {
+        PENDING,    // 결제 대기
+        COMPLETED,  // 결제 완료
+        FAILED      // 결제 실패
+    }
+}
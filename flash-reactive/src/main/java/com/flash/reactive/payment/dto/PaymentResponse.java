@@ -0,0 +1,38 @@
+package com.flash.reactive.payment.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.flash.reactive.payment.domain.Payment;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+@Getter
+public class PaymentResponse {
+    // 64비트 ID는 JavaScript 숫자 범위를 넘으므로 문자열로 내려준다
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long id;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long orderId;
+    private final Integer amount;
+    private final String status;
+    private final LocalDateTime createdAt;
+    
+    private PaymentResponse(Long id, Long orderId, Integer amount, 
+                           String status, LocalDateTime createdAt) {
+        this.id = id;
+        this.orderId = orderId;
+        this.amount = amount;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+    
+    public static PaymentResponse from(Payment payment) {
+        return new PaymentResponse(
+            payment.getId(),
+            payment.getOrderId(),
+            payment.getAmount(),
+            payment.getStatus().name(),
+            payment.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.flash.reactive.payment.repository;
+
+import com.flash.reactive.payment.domain.Payment;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface PaymentRepository extends ReactiveCrudRepository<Payment, Long> {
+}
@@ -0,0 +1,70 @@
+package com.flash.reactive.payment.service;
+
+import com.flash.common.id.SnowflakeIdGenerator;
+import com.flash.item.exception.ItemException;
+import com.flash.order.exception.OrderException;
+import com.flash.payment.exception.PaymentException;
+import com.flash.reactive.item.repository.ItemRepository;
+import com.flash.reactive.order.domain.Order;
+import com.flash.reactive.order.repository.OrderRepository;
+import com.flash.reactive.payment.domain.Payment;
+import com.flash.reactive.payment.dto.PaymentResponse;
+import com.flash.reactive.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentService {
+    
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final ItemRepository itemRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    
+    @Transactional
+    public Mono<PaymentResponse> createPayment(Long orderId) {
+        return orderRepository.findById(orderId)
+            .switchIfEmpty(Mono.error(OrderException.OrderNotFoundException::new))
+            .flatMap(order -> {
+                // 주문 상태 확인
+                if (order.getStatus() != Order.OrderStatus.PENDING) {
+                    return Mono.error(new OrderException.InvalidOrderStatusException());
+                }
+                return itemRepository.findById(order.getItemId())
+                    .switchIfEmpty(Mono.error(ItemException.ItemNotFoundException::new))
+                    .flatMap(item -> entityTemplate.insert(Payment.builder()
+                        .id(idGenerator.nextId())
+                        .orderId(order.getId())
+                        .amount(item.getPrice() * order.getQuantity())
+                        .build()));
+            })
+            .map(PaymentResponse::from);
+    }
+    
+    @Transactional
+    public Mono<PaymentResponse> processPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+            .switchIfEmpty(Mono.error(PaymentException.PaymentNotFoundException::new))
+            .flatMap(payment -> {
+                // 결제 상태 확인
+                if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
+                    return Mono.error(new PaymentException.InvalidPaymentStatusException());
+                }
+                payment.complete();
+                return paymentRepository.save(payment)
+                    .flatMap(saved -> orderRepository.findById(saved.getOrderId())
+                        .switchIfEmpty(Mono.error(OrderException.OrderNotFoundException::new))
+                        .flatMap(order -> {
+                            order.complete();
+                            return orderRepository.save(order);
+                        })
+                        .thenReturn(saved));
+            })
+            .map(PaymentResponse::from);
+    }
+}
@@ -0,0 +1,21 @@
+package com.flash.reactive.user.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+// 구매 시 사용자 존재 여부 확인에만 사용
+@Table("users")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class User {
+    
+    @Id
+    private Long id;
+    
+    private String email;
+    
+    private String name;
+}
@@ -0,0 +1,7 @@
+package com.flash.reactive.user.repository;
+
+import com.flash.reactive.user.domain.User;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface UserRepository extends ReactiveCrudRepository<User, Long> {
+}
@@ -0,0 +1,67 @@
+package com.flash.reactive.item.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.flash.reactive.item.domain.Item;
+import com.flash.reactive.item.repository.ItemRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(ItemController.class)
+class ItemControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ItemRepository itemRepository;
+
+    @Test
+    @DisplayName("판매 중인 상품 목록 조회 API 테스트")
+    void getItems() {
+        // given
+        when(itemRepository.findAllOnSale(any(LocalDateTime.class)))
+            .thenReturn(Flux.just(item(1L, "Item 1"), item(2L, "Item 2")));
+
+        // when & then
+        webTestClient.get().uri("/api/items")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[0].name").isEqualTo("Item 1");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품 조회 시 ITEM_NOT_FOUND 응답 테스트")
+    void getItem_notFound() {
+        // given
+        when(itemRepository.findById(1L)).thenReturn(Mono.empty());
+
+        // when & then
+        webTestClient.get().uri("/api/items/1")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.code").isEqualTo("ITEM_NOT_FOUND");
+    }
+
+    static Item item(Long id, String name) {
+        Item item = BeanUtils.instantiateClass(Item.class);
+        ReflectionTestUtils.setField(item, "id", id);
+        ReflectionTestUtils.setField(item, "name", name);
+        ReflectionTestUtils.setField(item, "price", 10000);
+        ReflectionTestUtils.setField(item, "stock", 10);
+        return item;
+    }
+}
@@ -0,0 +1,93 @@
+package com.flash.reactive.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.common.id.SnowflakeIdGenerator;
+import com.flash.item.exception.ItemException;
+import com.flash.reactive.item.domain.Item;
+import com.flash.reactive.item.repository.ItemRepository;
+import com.flash.reactive.order.domain.Order;
+import com.flash.reactive.order.repository.OrderRepository;
+import com.flash.reactive.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseServiceTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+
+    private PurchaseService purchaseService;
+
+    @BeforeEach
+    void setUp() {
+        purchaseService = new PurchaseService(
+            itemRepository, userRepository, orderRepository, entityTemplate, new SnowflakeIdGenerator(1));
+    }
+
+    private Item createItem() {
+        Item item = BeanUtils.instantiateClass(Item.class);
+        ReflectionTestUtils.setField(item, "id", 1L);
+        ReflectionTestUtils.setField(item, "name", "Test Item");
+        ReflectionTestUtils.setField(item, "price", 10000);
+        ReflectionTestUtils.setField(item, "stock", 10);
+        return item;
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 성공 시 주문을 저장하고 응답하는지 테스트")
+    void purchase() {
+        // given
+        when(itemRepository.findById(1L)).thenReturn(Mono.just(createItem()));
+        when(userRepository.existsById(1L)).thenReturn(Mono.just(true));
+        when(itemRepository.decreaseStockIfAvailable(1L, 2)).thenReturn(Mono.just(1));
+        when(entityTemplate.insert(any(Order.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // when & then
+        StepVerifier.create(purchaseService.purchase(1L, 1L, 2))
+            .assertNext(response -> {
+                assertThat(response.getItemName()).isEqualTo("Test Item");
+                assertThat(response.getTotalAmount()).isEqualTo(20000);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("재고 부족 시 주문을 저장하지 않고 OUT_OF_STOCK 오류 테스트")
+    void purchase_outOfStock() {
+        // given
+        when(itemRepository.findById(1L)).thenReturn(Mono.just(createItem()));
+        when(userRepository.existsById(1L)).thenReturn(Mono.just(true));
+        when(itemRepository.decreaseStockIfAvailable(1L, 1)).thenReturn(Mono.just(0));
+
+        // when & then
+        StepVerifier.create(purchaseService.purchase(1L, 1L, 1))
+            .expectError(ItemException.OutOfStockException.class)
+            .verify();
+        verify(entityTemplate, never()).insert(any(Order.class));
+    }
+}
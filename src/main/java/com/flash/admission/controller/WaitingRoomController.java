@@ -0,0 +1,37 @@
+package com.flash.admission.controller;
+
+import com.flash.admission.dto.AdmissionResponse;
+import com.flash.admission.service.AdmissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final AdmissionService admissionService;
+
+    @PostMapping("/waiting-room/{itemId}/tickets")
+    public ResponseEntity<AdmissionResponse> issueTicket(
+        @PathVariable Long itemId,
+        @RequestParam Long userId
+    ) {
+        return ResponseEntity.ok(admissionService.issue(itemId, userId));
+    }
+
+    @GetMapping("/waiting-room/{itemId}/tickets/{token}")
+    public ResponseEntity<AdmissionResponse> getTicket(
+        @PathVariable Long itemId,
+        @PathVariable String token
+    ) {
+        return ResponseEntity.ok(admissionService.status(itemId, token));
+    }
+
+    @DeleteMapping("/admin/waiting-rooms/{itemId}")
+    public ResponseEntity<Void> reopen(@PathVariable Long itemId) {
+        admissionService.reopen(itemId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.flash.admission.domain;
+
+public enum AdmissionStatus {
+    WAITING,
+    ADMITTED,
+    CLOSED
+}
@@ -0,0 +1,18 @@
+package com.flash.admission.domain;
+
+import lombok.Getter;
+
+@Getter
+public class AdmissionTicket {
+    private final String token;
+    private final Long itemId;
+    private final Long userId;
+    private final long sequence;
+
+    public AdmissionTicket(String token, Long itemId, Long userId, long sequence) {
+        this.token = token;
+        this.itemId = itemId;
+        this.userId = userId;
+        this.sequence = sequence;
+    }
+}
@@ -0,0 +1,90 @@
+package com.flash.admission.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 상품별 대기실: 도착 순서대로 번호를 발급하고, 입장 허용선(admitted)을 조금씩 올려 그 안쪽 번호만 구매를 허용한다.
+// 발급 수는 재고 + 초과 예약 여유분(capacity)을 넘지 않으므로 그 이후 요청은 저장 없이 바로 마감 응답을 받는다.
+public class WaitingRoom {
+
+    private final Long itemId;
+    private final long capacity;
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicLong admitted = new AtomicLong();
+    private final ConcurrentHashMap<String, AdmissionTicket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AdmissionTicket> ticketsByUser = new ConcurrentHashMap<>();
+
+    public WaitingRoom(Long itemId, long capacity) {
+        this.itemId = itemId;
+        this.capacity = capacity;
+    }
+
+    public Optional<AdmissionTicket> issue(Long userId) {
+        // 같은 사용자가 다시 요청하면 기존 번호를 돌려준다
+        AdmissionTicket existing = ticketsByUser.get(userId);
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        if (isClosed()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ticketsByUser.computeIfAbsent(userId, this::newTicket));
+    }
+
+    public Optional<AdmissionTicket> find(String token) {
+        return Optional.ofNullable(tickets.get(token));
+    }
+
+    public boolean isAdmitted(AdmissionTicket ticket) {
+        return ticket.getSequence() <= admitted.get();
+    }
+
+    // 입장 허용선까지 남은 대기 인원 (0이면 입장 가능)
+    public long positionOf(AdmissionTicket ticket) {
+        return Math.max(0, ticket.getSequence() - admitted.get());
+    }
+
+    // 입장 번호는 한 번만 사용할 수 있다 (사용한 번호는 사용자 목록에서도 빠지므로 다시 발급받아야 한다)
+    public boolean consume(AdmissionTicket ticket) {
+        if (!isAdmitted(ticket) || !tickets.remove(ticket.getToken(), ticket)) {
+            return false;
+        }
+        ticketsByUser.remove(ticket.getUserId(), ticket);
+        return true;
+    }
+
+    // 구매가 실패하면 사용한 번호를 되돌려 같은 번호로 다시 시도할 수 있게 한다
+    public void restore(AdmissionTicket ticket) {
+        tickets.putIfAbsent(ticket.getToken(), ticket);
+        ticketsByUser.putIfAbsent(ticket.getUserId(), ticket);
+    }
+
+    // 발급된 번호 범위 안에서만 입장 허용선을 올린다
+    public void admit(int count) {
+        admitted.updateAndGet(current -> Math.min(current + count, Math.min(issued.get(), capacity)));
+    }
+
+    public boolean isClosed() {
+        return issued.get() >= capacity;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    private AdmissionTicket newTicket(Long userId) {
+        long sequence = issued.incrementAndGet();
+        if (sequence > capacity) {
+            return null;
+        }
+        AdmissionTicket ticket = new AdmissionTicket(UUID.randomUUID().toString(), itemId, userId, sequence);
+        tickets.put(ticket.getToken(), ticket);
+        return ticket;
+    }
+}
@@ -0,0 +1,35 @@
+package com.flash.admission.dto;
+
+import com.flash.admission.domain.AdmissionStatus;
+import com.flash.admission.domain.AdmissionTicket;
+import com.flash.admission.domain.WaitingRoom;
+import lombok.Getter;
+
+@Getter
+public class AdmissionResponse {
+    private final Long itemId;
+    private final String token;
+    private final AdmissionStatus status;
+    private final long position;
+
+    private AdmissionResponse(Long itemId, String token, AdmissionStatus status, long position) {
+        this.itemId = itemId;
+        this.token = token;
+        this.status = status;
+        this.position = position;
+    }
+
+    public static AdmissionResponse of(WaitingRoom room, AdmissionTicket ticket) {
+        long position = room.positionOf(ticket);
+        return new AdmissionResponse(
+            room.getItemId(),
+            ticket.getToken(),
+            position == 0 ? AdmissionStatus.ADMITTED : AdmissionStatus.WAITING,
+            position
+        );
+    }
+
+    public static AdmissionResponse closed(Long itemId) {
+        return new AdmissionResponse(itemId, null, AdmissionStatus.CLOSED, 0);
+    }
+}
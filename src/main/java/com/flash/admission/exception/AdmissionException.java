@@ -0,0 +1,20 @@
+package com.flash.admission.exception;
+
+import com.flash.common.exception.BaseException;
+
+public class AdmissionException {
+    public static class TicketNotFoundException extends BaseException {
+        public TicketNotFoundException() {
+            super("대기 번호를 찾을 수 없습니다.", "ADMISSION_TICKET_NOT_FOUND");
+        }
+    }
+
+    public static class NotAdmittedException extends BaseException {
+        public NotAdmittedException() {
+            super("아직 입장 순서가 아닙니다. 대기 후 다시 시도해주세요.", "NOT_ADMITTED");
+        }
+    }
+
+    public AdmissionException() {
+    }
+}
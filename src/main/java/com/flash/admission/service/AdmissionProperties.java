@@ -0,0 +1,23 @@
+package com.flash.admission.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flash.admission")
+public class AdmissionProperties {
+
+    // 켜면 /api/purchase 는 입장 허용된 대기 번호가 있어야 처리된다
+    private boolean enabled = false;
+
+    // 재고 대비 추가로 입장시킬 비율 (결제 포기, 중복 실패 등을 감안)
+    private double overbookingRatio = 0.1;
+
+    // 재고가 적을 때도 보장할 최소 추가 입장 인원
+    private int minOverbooking = 10;
+
+    // 한 주기마다 입장시킬 인원
+    private int admitBatchSize = 50;
+}
@@ -0,0 +1,93 @@
+package com.flash.admission.service;
+
+import com.flash.admission.domain.AdmissionTicket;
+import com.flash.admission.domain.WaitingRoom;
+import com.flash.admission.dto.AdmissionResponse;
+import com.flash.admission.exception.AdmissionException;
+import com.flash.item.service.StockWriteBehind;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 구매 API 앞단의 가상 대기실: 재고만큼(+여유분)만 번호를 발급하고 나머지는 메모리에서 즉시 돌려보낸다
+@Component
+@RequiredArgsConstructor
+public class AdmissionService {
+
+    private final StockWriteBehind stockWriteBehind;
+    private final AdmissionProperties properties;
+
+    private final ConcurrentHashMap<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+
+    public AdmissionResponse issue(Long itemId, Long userId) {
+        WaitingRoom room = rooms.computeIfAbsent(itemId, this::openRoom);
+        return room.issue(userId)
+            .map(ticket -> AdmissionResponse.of(room, ticket))
+            .orElseGet(() -> AdmissionResponse.closed(itemId));
+    }
+
+    public AdmissionResponse status(Long itemId, String token) {
+        WaitingRoom room = rooms.get(itemId);
+        if (room == null) {
+            throw new AdmissionException.TicketNotFoundException();
+        }
+        AdmissionTicket ticket = room.find(token)
+            .orElseThrow(AdmissionException.TicketNotFoundException::new);
+        return AdmissionResponse.of(room, ticket);
+    }
+
+    // 구매 직전에 호출: 입장 허용된 본인 번호인지 확인하고 번호를 소진한다
+    // 대기실이 꺼져 있으면 null. 구매가 실패하면 돌려받은 번호로 restore() 를 호출해야 한다
+    public AdmissionTicket enter(Long itemId, Long userId, String token) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        WaitingRoom room = rooms.get(itemId);
+        if (room == null || token == null) {
+            throw new AdmissionException.NotAdmittedException();
+        }
+        AdmissionTicket ticket = room.find(token)
+            .filter(found -> found.getUserId().equals(userId))
+            .orElseThrow(AdmissionException.NotAdmittedException::new);
+        if (!room.consume(ticket)) {
+            throw new AdmissionException.NotAdmittedException();
+        }
+        return ticket;
+    }
+
+    // 구매 실패 시 소진한 번호를 되돌린다
+    public void restore(AdmissionTicket ticket) {
+        if (ticket == null) {
+            return;
+        }
+        WaitingRoom room = rooms.get(ticket.getItemId());
+        if (room != null) {
+            room.restore(ticket);
+        }
+    }
+
+    // 재입고 등으로 재고가 바뀌면 대기실을 닫고 다음 요청 때 새 재고 기준으로 다시 연다
+    public void reopen(Long itemId) {
+        rooms.remove(itemId);
+    }
+
+    @Scheduled(fixedDelayString = "${flash.admission.admit-interval-ms:100}")
+    public void admitNext() {
+        rooms.values().forEach(room -> room.admit(properties.getAdmitBatchSize()));
+    }
+
+    private WaitingRoom openRoom(Long itemId) {
+        // 반영(flush)과 겹치지 않게 DB 재고와 지연 반영분을 함께 읽는다
+        int stock = Math.max(0, stockWriteBehind.availableStock(itemId));
+        return new WaitingRoom(itemId, capacityFor(stock));
+    }
+
+    private long capacityFor(int stock) {
+        if (stock == 0) {
+            return 0;
+        }
+        long margin = Math.max(properties.getMinOverbooking(), (long) Math.ceil(stock * properties.getOverbookingRatio()));
+        return stock + margin;
+    }
+}
@@ -0,0 +1,15 @@
+package com.flash.common.db;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 이 메서드(또는 클래스)에서 사용할 커넥션 풀을 지정한다. 메서드에 붙인 값이 클래스보다 우선한다
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+    BulkheadType value();
+}
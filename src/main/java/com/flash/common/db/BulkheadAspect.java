@@ -0,0 +1,39 @@
+package com.flash.common.db;
+
+import java.lang.reflect.Method;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// @Transactional 보다 바깥에서 풀을 정해 두어야 트랜잭션이 올바른 풀의 커넥션을 받는다
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkheadAspect {
+
+    @Around("@annotation(com.flash.common.db.Bulkhead) || @within(com.flash.common.db.Bulkhead)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        BulkheadType previous = BulkheadContext.enter(resolve(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            BulkheadContext.restore(previous);
+        }
+    }
+
+    private BulkheadType resolve(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        }
+        return bulkhead.value();
+    }
+}
@@ -0,0 +1,29 @@
+package com.flash.common.db;
+
+// 현재 스레드가 사용할 커넥션 풀
+public final class BulkheadContext {
+
+    private static final ThreadLocal<BulkheadType> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static BulkheadType current() {
+        return CURRENT.get();
+    }
+
+    // 이전 값을 돌려주므로 호출한 쪽에서 restore 로 되돌린다
+    public static BulkheadType enter(BulkheadType type) {
+        BulkheadType previous = CURRENT.get();
+        CURRENT.set(type);
+        return previous;
+    }
+
+    public static void restore(BulkheadType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
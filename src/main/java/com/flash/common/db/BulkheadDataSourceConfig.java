@@ -0,0 +1,63 @@
+package com.flash.common.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// 조회, 구매, 결제가 서로의 커넥션을 빼앗지 않도록 풀을 나눈다.
+// 풀마다 크기와 타임아웃을 따로 두고, 풀 이름(flash-catalog 등)으로 hikaricp.connections.* 메트릭이 분리된다.
+@Configuration
+@ConditionalOnProperty(prefix = "flash.datasource.bulkheads", name = "enabled", havingValue = "true")
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("flash.datasource.bulkheads.catalog")
+    public HikariDataSource catalogDataSource(DataSourceProperties properties) {
+        return createPool(properties, "flash-catalog");
+    }
+
+    @Bean
+    @ConfigurationProperties("flash.datasource.bulkheads.purchase")
+    public HikariDataSource purchaseDataSource(DataSourceProperties properties) {
+        return createPool(properties, "flash-purchase");
+    }
+
+    @Bean
+    @ConfigurationProperties("flash.datasource.bulkheads.payment")
+    public HikariDataSource paymentDataSource(DataSourceProperties properties) {
+        return createPool(properties, "flash-payment");
+    }
+
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 가져오도록 Lazy 프록시로 감싼다
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("catalogDataSource") DataSource catalog,
+                                 @Qualifier("purchaseDataSource") DataSource purchase,
+                                 @Qualifier("paymentDataSource") DataSource payment) {
+        BulkheadRoutingDataSource routing = new BulkheadRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+            BulkheadType.CATALOG, catalog,
+            BulkheadType.PURCHASE, purchase,
+            BulkheadType.PAYMENT, payment
+        ));
+        routing.setDefaultTargetDataSource(purchase);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,12 @@
+package com.flash.common.db;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// 현재 스레드의 BulkheadType 에 해당하는 풀로 커넥션 요청을 보낸다 (지정이 없으면 기본 풀)
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return BulkheadContext.current();
+    }
+}
@@ -0,0 +1,7 @@
+package com.flash.common.db;
+
+public enum BulkheadType {
+    CATALOG,    // 상품/주문 조회 등 읽기 전용
+    PURCHASE,   // 구매 트랜잭션 (지정하지 않은 작업의 기본값)
+    PAYMENT     // 결제
+}
@@ -0,0 +1,27 @@
+package com.flash.common.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// flash.db-permit.enabled=true 이면 Hikari 풀 앞에 풀 크기만큼의 DB permit 게이트를 씌운다
+@Component
+@ConditionalOnProperty(prefix = "flash.db-permit", name = "enabled", havingValue = "true")
+public class DbPermitDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final long acquireTimeoutMillis;
+
+    public DbPermitDataSourcePostProcessor(@Value("${flash.db-permit.acquire-timeout-ms:60000}") long acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            return new DbPermitDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeoutMillis);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,22 @@
+package com.flash.common.db;
+
+// 현재 요청의 읽기 전용 트랜잭션도 복제본 대신 원본 DB를 읽도록 고정한다
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,68 @@
+package com.flash.common.db;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// userId 파라미터의 사용자가 방금 쓰기를 했다면 이 요청의 조회를 원본 DB로 고정한다 (예: 구매 직후 /api/orders)
+// 비동기 처리(Callable, StreamingResponseBody)로 넘어가면 요청 스레드의 고정은 풀고, 작업 스레드에서 다시 건다
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String CALLABLE_INTERCEPTOR_KEY = ReadYourWritesInterceptor.class.getName() + ".callable";
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = parseUserId(request.getParameter("userId"));
+        if (readYourWritesWindow.isWithinWindow(userId)) {
+            ReadYourWritesContext.pinToPrimary();
+            // 판단은 요청 스레드에서 한 번만 하고, 비동기 작업에는 그 결과를 그대로 넘긴다
+            WebAsyncUtils.getAsyncManager(request)
+                .registerCallableInterceptor(CALLABLE_INTERCEPTOR_KEY, new PinnedCallableInterceptor());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리가 시작되면 afterCompletion 없이 요청 스레드가 반환되므로 여기서 정리한다
+        ReadYourWritesContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWritesContext.clear();
+    }
+
+    private Long parseUserId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 비동기 작업 스레드에서 실행 동안만 원본 DB로 고정한다
+    private static final class PinnedCallableInterceptor implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
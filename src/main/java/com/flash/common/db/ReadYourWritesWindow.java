@@ -0,0 +1,56 @@
+package com.flash.common.db;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 방금 쓰기를 한 사용자의 조회는 복제 지연 동안 원본 DB에서 읽도록, 사용자별 마지막 쓰기 시각을 기억한다
+@Component
+public class ReadYourWritesWindow {
+
+    // userId -> 원본 DB를 읽어야 하는 마감 시각
+    private final ConcurrentHashMap<Long, Long> deadlines = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ReadYourWritesWindow(@Value("${flash.datasource.replica.enabled:false}") boolean enabled,
+                                @Value("${flash.datasource.replica.read-your-writes-ms:2000}") long windowMillis) {
+        this(enabled, windowMillis, System::currentTimeMillis);
+    }
+
+    ReadYourWritesWindow(boolean enabled, long windowMillis, LongSupplier clock) {
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    public void recordWrite(Long userId) {
+        // 복제본을 쓰지 않으면 기록할 필요가 없다
+        if (!enabled || userId == null) {
+            return;
+        }
+        deadlines.put(userId, clock.getAsLong() + windowMillis);
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        if (!enabled || userId == null) {
+            return false;
+        }
+        Long deadline = deadlines.get(userId);
+        return deadline != null && deadline > clock.getAsLong();
+    }
+
+    @Scheduled(fixedDelayString = "${flash.datasource.replica.read-your-writes-ms:2000}")
+    public void purgeExpired() {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        deadlines.values().removeIf(deadline -> deadline <= now);
+    }
+}
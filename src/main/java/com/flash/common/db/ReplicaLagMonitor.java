@@ -0,0 +1,61 @@
+package com.flash.common.db;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 복제 지연이 max-lag-ms를 넘으면 복제본 조회를 멈추고 원본으로 돌린다.
+// lag-query는 지연 시간(ms) 하나를 돌려주는 쿼리여야 하며, 비어 있으면 검사하지 않는다.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "flash.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSourcePostProcessor replication;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSourcePostProcessor replication,
+                             @Value("${flash.datasource.replica.lag-query:}") String lagQuery,
+                             @Value("${flash.datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        this.replication = replication;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${flash.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        ReplicaRoutingDataSource routing = replication.getRouting();
+        if (routing == null || lagQuery.isBlank()) {
+            return;
+        }
+
+        boolean available = isWithinLag();
+        if (available != routing.isReplicaAvailable()) {
+            log.warn("복제본 조회 {}: maxLagMs={}", available ? "재개" : "중단", maxLagMillis);
+            routing.setReplicaAvailable(available);
+        }
+    }
+
+    private boolean isWithinLag() {
+        try (Connection connection = replication.getReplica().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // 값이 없으면 복제가 멈춘 것으로 본다
+            if (!resultSet.next()) {
+                return false;
+            }
+            long lagMillis = resultSet.getLong(1);
+            return !resultSet.wasNull() && lagMillis <= maxLagMillis;
+        } catch (SQLException e) {
+            log.warn("복제 지연 확인 실패", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.flash.common.db;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 복제본으로, 나머지는 원본으로 보낸다.
+// 커넥션을 잡는 시점에 트랜잭션 속성이 정해져 있어야 하므로 LazyConnectionDataSourceProxy 뒤에 둔다.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    // 복제 지연이 허용치를 넘거나 복제본에 접근할 수 없으면 false (모든 조회를 원본으로)
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(
+            Target.PRIMARY, primary,
+            Target.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaAvailable
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && !ReadYourWritesContext.isPinnedToPrimary()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+}
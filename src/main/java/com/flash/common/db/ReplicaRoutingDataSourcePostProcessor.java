@@ -0,0 +1,62 @@
+package com.flash.common.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+// flash.datasource.replica.enabled=true 이면 기본 DataSource(단일 풀 또는 bulkhead 라우팅) 앞에 복제본 라우팅을 씌운다
+@Component
+@ConditionalOnProperty(prefix = "flash.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingDataSourcePostProcessor implements BeanPostProcessor, DisposableBean {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final HikariDataSource replica;
+    private volatile ReplicaRoutingDataSource routing;
+
+    public ReplicaRoutingDataSourcePostProcessor(Environment environment) {
+        // OSIV는 요청 내내 첫 트랜잭션의 커넥션을 붙잡으므로, 읽기 전용 조회 뒤의 쓰기가 복제본 커넥션에서 실행될 수 있다
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException("복제본 라우팅을 사용하려면 spring.jpa.open-in-view=false 설정이 필요합니다.");
+        }
+        HikariConfig config = Binder.get(environment)
+            .bindOrCreate("flash.datasource.replica.pool", HikariConfig.class);
+        config.setPoolName("flash-replica");
+        // 풀은 첫 커넥션 요청 시점에 시작된다
+        this.replica = new HikariDataSource();
+        config.copyStateTo(replica);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        // 이미 Lazy 프록시로 감싸져 있으면(bulkhead) 안쪽 라우팅을 원본으로 쓴다
+        DataSource primary = dataSource instanceof LazyConnectionDataSourceProxy lazy
+            ? lazy.getTargetDataSource()
+            : dataSource;
+        routing = new ReplicaRoutingDataSource(primary, replica);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public ReplicaRoutingDataSource getRouting() {
+        return routing;
+    }
+
+    @Override
+    public void destroy() {
+        replica.close();
+    }
+}
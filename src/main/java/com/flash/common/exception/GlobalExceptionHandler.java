@@ -1,6 +1,7 @@
 package com.flash.common.exception;
 
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -14,6 +15,13 @@ public class GlobalExceptionHandler {
             .body(new ErrorResponse(e.getCode(), e.getMessage()));
     }
     
+    // 같은 키를 다른 요청에 재사용한 경우: 원래 결과를 돌려주지도, 새로 처리하지도 않는다
+    @ExceptionHandler(IdempotencyException.KeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleKeyReused(IdempotencyException.KeyReusedException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+            .body(new ErrorResponse(e.getCode(), e.getMessage()));
+    }
+    
     @Getter
     static class ErrorResponse {
         private final String code;
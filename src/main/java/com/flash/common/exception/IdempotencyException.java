@@ -0,0 +1,12 @@
+package com.flash.common.exception;
+
+public class IdempotencyException {
+    public static class KeyReusedException extends BaseException {
+        public KeyReusedException() {
+            super("같은 Idempotency-Key가 다른 요청 내용으로 다시 사용되었습니다.", "IDEMPOTENCY_KEY_REUSED");
+        }
+    }
+
+    public IdempotencyException() {
+    }
+}
@@ -0,0 +1,60 @@
+package com.flash.common.id;
+
+import java.util.function.LongSupplier;
+
+// 시간 순으로 증가하는 64비트 ID 생성기 (41비트 타임스탬프 + 10비트 노드 + 12비트 시퀀스)
+// 같은 밀리초에 시퀀스를 다 쓰거나 시계가 뒤로 가면 마지막 시각을 기준으로 논리적으로 증가시켜
+// 노드 안에서는 항상 단조 증가하고 중복이 발생하지 않는다.
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long now = clock.getAsLong();
+
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else {
+            // 같은 밀리초이거나 시계가 뒤로 간 경우 마지막 시각을 유지한 채 시퀀스만 증가
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 시퀀스를 다 쓰면 실제 시계를 기다리지 않고 논리 시각을 한 칸 앞당긴다
+                lastTimestamp++;
+            }
+        }
+
+        return ((lastTimestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,29 @@
+package com.flash.common.id;
+
+import java.lang.reflect.Member;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    // spring.jpa.properties 로 전달되는 노드 ID 설정 키
+    public static final String NODE_ID_SETTING = "flash.id.node-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember,
+                                        CustomIdGeneratorCreationContext creationContext) {
+        Object nodeId = creationContext.getServiceRegistry()
+            .requireService(ConfigurationService.class)
+            .getSettings()
+            .get(NODE_ID_SETTING);
+        this.generator = new SnowflakeIdGenerator(nodeId == null ? 0L : Long.parseLong(nodeId.toString()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,134 @@
+package com.flash.common.idempotency;
+
+import com.flash.common.exception.IdempotencyException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Idempotency-Key 헤더 처리: 같은 키로 처리 중인 요청은 원래 요청의 결과를 기다리고,
+// 완료된 결과는 개수와 TTL 제한이 있는 캐시에서 돌려준다. 실패한 요청은 캐시하지 않아 재시도할 수 있다.
+// 키는 요청자(owner) 범위 안에서만 유효하고, 같은 키로 요청 내용(request)이 다르면 KeyReusedException 으로 거절한다.
+@Component
+public class IdempotencyCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 완료 순서대로 쌓이므로 TTL이 모두 같으면 앞쪽이 항상 먼저 만료된다
+    private final ConcurrentLinkedQueue<String> completionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public IdempotencyCache(@Value("${flash.idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${flash.idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this(maxEntries, ttlSeconds * 1000, System::currentTimeMillis);
+    }
+
+    IdempotencyCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, Object owner, String key, List<?> request, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        // 다른 사용자가 같은 키를 보내도 남의 결과를 받지 않게 요청자를 키에 넣는다
+        String cacheKey = scope + ":" + owner + ":" + key;
+
+        Entry entry = new Entry(request);
+        while (true) {
+            Entry existing = entries.putIfAbsent(cacheKey, entry);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(clock.getAsLong())) {
+                if (!existing.request.equals(request)) {
+                    throw new IdempotencyException.KeyReusedException();
+                }
+                return (T) await(existing.future);
+            }
+            // 만료된 결과는 새 요청으로 교체
+            if (entries.replace(cacheKey, existing, entry)) {
+                break;
+            }
+        }
+
+        try {
+            T result = action.get();
+            entry.expiresAt = clock.getAsLong() + ttlMillis;
+            entry.future.complete(result);
+            completionOrder.add(cacheKey);
+            evict();
+            return result;
+        } catch (Throwable e) {
+            // 검사 예외나 Error 로 끝나도 대기 중인 항목을 남기지 않는다
+            entries.remove(cacheKey, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료되었거나 개수 제한을 넘은 완료 결과를 오래된 순서로 제거
+    private void evict() {
+        long now = clock.getAsLong();
+        while (true) {
+            String head = completionOrder.peek();
+            if (head == null) {
+                return;
+            }
+            Entry entry = entries.get(head);
+            if (entry != null && entry.future.isDone() && !entry.isExpired(now) && entries.size() <= maxEntries) {
+                return;
+            }
+            String polled = completionOrder.poll();
+            if (polled == null) {
+                return;
+            }
+            Entry target = entries.get(polled);
+            if (target != null && target.future.isDone()
+                && (target.isExpired(now) || entries.size() > maxEntries)) {
+                entries.remove(polled, target);
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final List<?> request;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        // 완료 전에는 만료되지 않는다
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(List<?> request) {
+            this.request = List.copyOf(request);
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.flash.common.time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+// 계층형 타이밍 휠: 0단은 tick 단위, k단은 wheelSize^k tick 단위의 칸을 가진다.
+// 먼 미래의 작업은 윗단에 넣어 두었다가 그 칸이 돌아올 때 아랫단으로 내려보내므로
+// 작업 수와 무관하게 tick 당 처리 비용이 일정하다. 휠 구조는 구동 스레드 하나만 다루고,
+// 다른 스레드의 등록·취소는 lock-free 큐로 넘겨받는다.
+@Slf4j
+public class HierarchicalTimingWheel implements AutoCloseable {
+
+    private static final int PENDING = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long startMillis;
+    private final LongSupplier clock;
+    // spans[k] = k단 한 칸이 덮는 tick 수
+    private final long[] spans;
+    private final List<List<Timer>> buckets;
+    private final List<Timer> overflow = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Timer> incoming = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timer> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private long currentTick;
+    private volatile boolean running;
+    private Thread driver;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, LongSupplier clock) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("잘못된 타이밍 휠 설정입니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        this.spans = new long[levels];
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+    }
+
+    // deadline 이 이미 지났으면 다음 tick 에 실행된다
+    public Timer schedule(long deadlineMillis, Runnable task) {
+        long deadlineTick = Math.max(0, Math.ceilDiv(deadlineMillis - startMillis, tickMillis));
+        Timer timer = new Timer(deadlineTick, task);
+        pending.incrementAndGet();
+        incoming.add(timer);
+        return timer;
+    }
+
+    // 실행되지도 취소되지도 않은 작업 수
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+        running = true;
+        driver = new Thread(this::drive, threadName);
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (driver != null) {
+            driver.interrupt();
+        }
+    }
+
+    // 현재 시각까지의 tick 을 모두 처리한다 (구동 스레드 또는 테스트에서만 호출)
+    public void advanceTo(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        drainIncoming();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Timer> bucket = bucket(0, currentTick);
+            if (!bucket.isEmpty()) {
+                List<Timer> due = new ArrayList<>(bucket);
+                bucket.clear();
+                due.forEach(this::run);
+            }
+            drainIncoming();
+        }
+    }
+
+    private void drive() {
+        while (running) {
+            try {
+                advanceTo(clock.getAsLong());
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("타이밍 휠 처리 실패", e);
+            }
+        }
+    }
+
+    private void drainIncoming() {
+        Timer timer;
+        while ((timer = incoming.poll()) != null) {
+            place(timer);
+        }
+        // 취소된 작업은 칸에서 바로 빼서, 먼 미래의 칸에 쌓인 채 남지 않게 한다
+        while ((timer = cancelled.poll()) != null) {
+            if (timer.bucket != null) {
+                timer.bucket.remove(timer);
+                timer.bucket = null;
+            }
+        }
+    }
+
+    // 윗단 칸이 돌아오면 그 칸의 작업을 아랫단으로 다시 배치한다 (윗단부터)
+    private void cascade() {
+        int top = spans.length - 1;
+        if (currentTick % spans[top] == 0 && !overflow.isEmpty()) {
+            List<Timer> timers = new ArrayList<>(overflow);
+            overflow.clear();
+            timers.forEach(this::place);
+        }
+        for (int level = top; level >= 1; level--) {
+            if (currentTick % spans[level] != 0) {
+                continue;
+            }
+            List<Timer> bucket = bucket(level, currentTick);
+            if (!bucket.isEmpty()) {
+                List<Timer> timers = new ArrayList<>(bucket);
+                bucket.clear();
+                timers.forEach(this::place);
+            }
+        }
+    }
+
+    private void place(Timer timer) {
+        timer.bucket = null;
+        if (timer.state.get() != PENDING) {
+            return;
+        }
+        long delay = timer.deadlineTick - currentTick;
+        if (delay <= 0) {
+            run(timer);
+            return;
+        }
+        List<Timer> target = overflow;
+        for (int level = 0; level < spans.length; level++) {
+            if (delay < spans[level] * wheelSize) {
+                target = bucket(level, timer.deadlineTick);
+                break;
+            }
+        }
+        target.add(timer);
+        timer.bucket = target;
+    }
+
+    private List<Timer> bucket(int level, long tick) {
+        return buckets.get(level * wheelSize + (int) ((tick / spans[level]) % wheelSize));
+    }
+
+    private void run(Timer timer) {
+        timer.bucket = null;
+        if (!timer.state.compareAndSet(PENDING, EXPIRED)) {
+            return;
+        }
+        pending.decrementAndGet();
+        try {
+            timer.task.run();
+        } catch (RuntimeException e) {
+            log.error("타이밍 휠 작업 실패", e);
+        }
+    }
+
+    public final class Timer {
+        private final long deadlineTick;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // 현재 들어 있는 칸 (구동 스레드만 읽고 쓴다)
+        private List<Timer> bucket;
+
+        private Timer(long deadlineTick, Runnable task) {
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+
+        // 아직 실행되지 않았으면 취소한다. 칸에서 빼는 것은 구동 스레드가 다음 tick 에 처리
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            pending.decrementAndGet();
+            cancelled.add(this);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.flash.common.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 이미 UTF-8 JSON 바이트로 만들어 둔 응답 본문. Jackson을 거치지 않고 그대로 복사된다
+public interface PreSerializedJson {
+
+    long contentLength();
+
+    void writeTo(OutputStream out) throws IOException;
+}
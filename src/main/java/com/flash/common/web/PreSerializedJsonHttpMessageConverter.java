@@ -0,0 +1,43 @@
+package com.flash.common.web;
+
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+// PreSerializedJson 응답을 직렬화 없이 출력 스트림에 바로 쓴다 (쓰기 전용)
+@Component
+public class PreSerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<PreSerializedJson> {
+
+    public PreSerializedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreSerializedJson readInternal(Class<? extends PreSerializedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("요청 본문으로 사용할 수 없는 타입입니다.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(PreSerializedJson body, MediaType contentType) {
+        return body.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(PreSerializedJson body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,21 @@
+package com.flash.item.controller;
+
+import com.flash.item.service.ItemCatalogCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/catalog")
+@RequiredArgsConstructor
+public class ItemCatalogAdminController {
+
+    private final ItemCatalogCache itemCatalogCache;
+
+    // 상품 정보(판매 기간, 가격 등)를 DB에서 직접 수정한 뒤 호출
+    @PostMapping("/reload")
+    public ResponseEntity<Void> reload() {
+        itemCatalogCache.reload();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,13 +1,14 @@
 package com.flash.item.controller;
 
-import com.flash.item.domain.Item;
-import com.flash.item.dto.ItemResponse;
+import com.flash.item.dto.ItemJsonResponse;
+import com.flash.item.dto.ItemListJsonResponse;
 import com.flash.item.service.ItemService;
+import com.flash.item.service.StockStreamBroadcaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/items")
@@ -15,19 +16,25 @@ import java.util.stream.Collectors;
 public class ItemController {
     
     private final ItemService itemService;
+    private final StockStreamBroadcaster stockStreamBroadcaster;
     
     @GetMapping
-    public ResponseEntity<List<ItemResponse>> getItems() {
-
-        List<ItemResponse> items = itemService.getAllOnSaleItems().stream()
-            .map(ItemResponse::from)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(items);
+    public ResponseEntity<ItemListJsonResponse> getItems() {
+        // DB 대신 카탈로그 캐시의 미리 직렬화된 JSON + 실시간 재고로 응답
+        ItemListJsonResponse items = itemService.getOnSaleCatalog();
+        // If-None-Match 가 ETag와 같으면 본문 없이 304로 응답된다
+        return ResponseEntity.ok().eTag(items.getETag()).body(items);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ItemResponse> getItem(@PathVariable Long id) {
-        Item item = itemService.getOnSaleItemById(id);
-        return ResponseEntity.ok(ItemResponse.from(item));
+    public ResponseEntity<ItemJsonResponse> getItem(@PathVariable Long id) {
+        ItemJsonResponse item = itemService.getOnSaleCatalogItem(id);
+        return ResponseEntity.ok().eTag(item.getETag()).body(item);
+    }
+    
+    // 재고 변경을 폴링 대신 SSE로 받는다 (event: stock, data: {"itemId":..,"stock":..})
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamItem(@PathVariable Long id) {
+        return stockStreamBroadcaster.subscribe(id);
     }
-} 
\ No newline at end of file
+}
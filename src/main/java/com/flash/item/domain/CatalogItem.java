@@ -0,0 +1,44 @@
+package com.flash.item.domain;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+// 카탈로그 캐시에 올리는 상품의 불변 스냅샷 (재고는 적재 시점 값이며, 실시간 재고는 LiveStockBoard 가 가진다)
+@Getter
+public final class CatalogItem {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final Integer price;
+    private final Integer stock;
+    private final LocalDateTime saleStart;
+    private final LocalDateTime saleEnd;
+
+    private CatalogItem(Long id, String name, String description, Integer price,
+                        Integer stock, LocalDateTime saleStart, LocalDateTime saleEnd) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.stock = stock;
+        this.saleStart = saleStart;
+        this.saleEnd = saleEnd;
+    }
+
+    public static CatalogItem from(Item item) {
+        return new CatalogItem(
+            item.getId(),
+            item.getName(),
+            item.getDescription(),
+            item.getPrice(),
+            item.getStock(),
+            item.getSaleStart(),
+            item.getSaleEnd()
+        );
+    }
+
+    // Item.isOnSale() 과 같은 기준 (saleStart 포함, saleEnd 미포함)
+    public boolean isOnSaleAt(LocalDateTime now) {
+        return !now.isBefore(saleStart) && now.isBefore(saleEnd);
+    }
+}
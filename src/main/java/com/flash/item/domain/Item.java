@@ -6,7 +6,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Entity
 @Table(name = "flash_sale_items")
@@ -39,13 +38,12 @@ public class Item {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
-    @Transient
-    private AtomicInteger atomicStock;
+    @Version
+    @Column(nullable = false)
+    private Long version;
     
-    @PostLoad
-    public void initAtomicStock() {
-        this.atomicStock = new AtomicInteger(this.stock);
-    }
+    @Transient
+    private volatile StripedStock stripedStock;
     
     @Builder
     public Item(String name, String description, Integer price, Integer stock, 
@@ -73,23 +71,32 @@ public class Item {
         this.stock -= quantity;
     }
 
+    // 셀 분할 카운터는 이 엔티티 인스턴스에만 붙어 있어, 같은 인스턴스를 공유하는 스레드끼리만 보호된다.
+    // 요청마다 엔티티를 새로 읽는 구매 경로에서는 보호가 되지 않으므로 구매 방식으로 쓰지 않는다
+    // (요청 간에 공유되는 셀 분할 재고는 StockLedger 를 사용한다)
     public void decreaseStockV2(int quantity) {
-        if (atomicStock == null) {
-            atomicStock = new AtomicInteger(this.stock);
-        }
+        StripedStock cells = stripedStock();
         
-        int currentStock;
-        int newStock;
+        // 셀 단위 CAS로 차감하여 단일 카운터에 경합이 몰리지 않도록 함
+        if (!cells.tryDecrease(quantity)) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
         
-        do {
-            currentStock = atomicStock.get();
-            if (currentStock < quantity) {
-                throw new IllegalStateException("재고가 부족합니다.");
+        this.stock = cells.sum();
+    }
+    
+    private StripedStock stripedStock() {
+        StripedStock cells = this.stripedStock;
+        if (cells == null) {
+            synchronized (this) {
+                cells = this.stripedStock;
+                if (cells == null) {
+                    cells = new StripedStock(this.stock);
+                    this.stripedStock = cells;
+                }
             }
-            newStock = currentStock - quantity;
-        } while (!atomicStock.compareAndSet(currentStock, newStock));
-        
-        this.stock = atomicStock.get();
+        }
+        return cells;
     }
 
     public void decreaseStockV3(int quantity) {
@@ -0,0 +1,8 @@
+package com.flash.item.domain;
+
+// 판매 시작 전 / 판매 중 / 판매 종료. 순서대로만 진행한다
+public enum SaleState {
+    UPCOMING,
+    ON_SALE,
+    ENDED
+}
@@ -0,0 +1,168 @@
+package com.flash.item.domain;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 한 상품의 재고를 여러 셀로 나눠 보관하는 카운터.
+// 스레드는 probe 해시로 고른 셀에서 먼저 차감하고, 셀이 비면 이웃 셀에서 빌려온다.
+// 각 셀은 CAS로 0 미만이 되지 않으므로 초과 판매는 발생하지 않는다.
+// 여러 셀에 걸친 차감은 락으로 직렬화해, 두 요청이 서로 일부씩 쥐고 함께 실패하는 일이 없게 한다.
+public class StripedStock {
+
+    // 셀 하나가 캐시 라인(64바이트) 하나를 차지하도록 int 16개 간격으로 배치
+    private static final int STRIDE = 16;
+    private static final int DEFAULT_CELLS = cellsFor(Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(
+        () -> new int[] { mix(Thread.currentThread().threadId()) });
+
+    private final AtomicIntegerArray cells;
+    private final int mask;
+    private final ReentrantLock gatherLock = new ReentrantLock();
+
+    public StripedStock(int stock) {
+        this(stock, DEFAULT_CELLS);
+    }
+
+    public StripedStock(int stock, int cellCount) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("stock must not be negative: " + stock);
+        }
+        int size = cellsFor(cellCount);
+        // 배열 헤더와 첫 셀이 같은 캐시 라인에 놓이지 않도록 앞쪽에 한 칸을 비운다
+        this.cells = new AtomicIntegerArray((size + 1) * STRIDE);
+        this.mask = size - 1;
+
+        int share = stock / size;
+        int remainder = stock % size;
+        for (int i = 0; i < size; i++) {
+            cells.set(offset(i), share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    public boolean tryDecrease(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive: " + quantity);
+        }
+        int start = probe();
+
+        // 자기 셀부터 이웃 셀 순서로 한 셀에서 전량 차감 시도
+        for (int i = 0; i <= mask; i++) {
+            if (tryTake((start + i) & mask, quantity)) {
+                return true;
+            }
+        }
+
+        // 어느 한 셀도 수량을 채우지 못하면 여러 셀에서 나눠 가져온다
+        return gather(start, quantity);
+    }
+
+    public void increase(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive: " + quantity);
+        }
+        cells.addAndGet(offset(probe() & mask), quantity);
+    }
+
+    public int sum() {
+        int sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(offset(i));
+        }
+        return sum;
+    }
+
+    public int cellCount() {
+        return mask + 1;
+    }
+
+    private boolean tryTake(int index, int quantity) {
+        int offset = offset(index);
+        int current;
+        while ((current = cells.get(offset)) >= quantity) {
+            if (cells.compareAndSet(offset, current, current - quantity)) {
+                return true;
+            }
+            // 충돌이 나면 다음 요청부터는 다른 셀을 쓰도록 probe를 갱신
+            advanceProbe();
+        }
+        return false;
+    }
+
+    private boolean gather(int start, int quantity) {
+        // 합계가 이미 모자라면 락을 기다리지 않고 바로 실패한다 (품절 직후 몰리는 요청이 락에 줄 서지 않게)
+        if (sum() < quantity) {
+            return false;
+        }
+        gatherLock.lock();
+        try {
+            // 단일 셀 경로는 차감만 하고 되돌리지 않으므로, 락 안에서의 실패는 실제 재고 부족이다.
+            // 다만 훑고 지나간 셀에 increase 가 들어왔을 수 있으니 합계가 충분하면 다시 모은다.
+            do {
+                if (gatherOnce(start, quantity)) {
+                    return true;
+                }
+            } while (sum() >= quantity);
+            return false;
+        } finally {
+            gatherLock.unlock();
+        }
+    }
+
+    private boolean gatherOnce(int start, int quantity) {
+        int need = quantity;
+        for (int i = 0; i <= mask && need > 0; i++) {
+            int offset = offset((start + i) & mask);
+            int current;
+            while ((current = cells.get(offset)) > 0) {
+                int take = Math.min(current, need);
+                if (cells.compareAndSet(offset, current, current - take)) {
+                    need -= take;
+                    break;
+                }
+            }
+        }
+        if (need == 0) {
+            return true;
+        }
+        // 전체 재고가 모자라면 가져온 만큼 되돌린다
+        int taken = quantity - need;
+        if (taken > 0) {
+            cells.addAndGet(offset(start & mask), taken);
+        }
+        return false;
+    }
+
+    private static int offset(int index) {
+        return (index + 1) * STRIDE;
+    }
+
+    private static int probe() {
+        return PROBE.get()[0];
+    }
+
+    private static void advanceProbe() {
+        int[] probe = PROBE.get();
+        int h = probe[0];
+        h ^= h << 13;
+        h ^= h >>> 17;
+        h ^= h << 5;
+        probe[0] = h;
+    }
+
+    private static int mix(long seed) {
+        long z = seed * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        int h = (int) (z ^ (z >>> 31));
+        return h == 0 ? 1 : h;
+    }
+
+    private static int cellsFor(int n) {
+        int size = 1;
+        while (size < n && size < (1 << 16)) {
+            size <<= 1;
+        }
+        return size;
+    }
+}
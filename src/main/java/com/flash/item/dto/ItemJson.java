@@ -0,0 +1,89 @@
+package com.flash.item.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flash.item.domain.CatalogItem;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// 한 상품의 ItemResponse JSON을 재고 값 앞(head)과 뒤(tail)로 잘라 미리 직렬화해 둔 바이트.
+// 응답 시에는 head + 재고 숫자 + tail 을 그대로 복사한다.
+public final class ItemJson {
+
+    private static final byte[] STOCK_PLACEHOLDER = "\"stock\":0".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] head;
+    private final byte[] tail;
+
+    private ItemJson(byte[] head, byte[] tail) {
+        this.head = head;
+        this.tail = tail;
+    }
+
+    // ObjectMapper 는 ItemResponse 를 응답할 때와 같은 설정(날짜 형식 등)을 쓴다
+    public static ItemJson encode(ObjectMapper objectMapper, CatalogItem item) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(ItemResponse.of(item, 0));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 JSON 직렬화 실패: itemId=" + item.getId(), e);
+        }
+        // 문자열 안의 따옴표는 이스케이프되므로 "stock": 은 필드 이름으로만 나타난다
+        int index = indexOf(json, STOCK_PLACEHOLDER);
+        int valueStart = index + STOCK_PLACEHOLDER.length - 1;
+        return new ItemJson(Arrays.copyOfRange(json, 0, valueStart), Arrays.copyOfRange(json, valueStart + 1, json.length));
+    }
+
+    public int length(int stock) {
+        return head.length + digits(stock) + tail.length;
+    }
+
+    public void writeTo(OutputStream out, int stock) throws IOException {
+        out.write(head);
+        writeInt(out, stock);
+        out.write(tail);
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalStateException("stock 필드를 찾을 수 없습니다.");
+    }
+
+    private static int digits(int value) {
+        if (value < 0) {
+            return 1 + digits(-value);
+        }
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    // 재고 숫자를 문자열 객체 없이 바로 쓴다
+    private static void writeInt(OutputStream out, int value) throws IOException {
+        if (value < 0) {
+            out.write('-');
+            value = -value;
+        }
+        int divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            out.write('0' + value / divisor % 10);
+            divisor /= 10;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.flash.item.dto;
+
+import com.flash.common.web.PreSerializedJson;
+import java.io.IOException;
+import java.io.OutputStream;
+import lombok.Getter;
+
+// 상품 상세 응답: 미리 직렬화한 상품 JSON + 응답 시점의 재고
+@Getter
+public final class ItemJsonResponse implements PreSerializedJson {
+
+    private final ItemJson json;
+    private final int stock;
+    private final String eTag;
+
+    public ItemJsonResponse(ItemJson json, int stock, String eTag) {
+        this.json = json;
+        this.stock = stock;
+        this.eTag = eTag;
+    }
+
+    @Override
+    public long contentLength() {
+        return json.length(stock);
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        json.writeTo(out, stock);
+    }
+}
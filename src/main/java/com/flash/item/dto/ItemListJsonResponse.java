@@ -0,0 +1,44 @@
+package com.flash.item.dto;
+
+import com.flash.common.web.PreSerializedJson;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import lombok.Getter;
+
+// 상품 목록 응답: 미리 직렬화한 상품 JSON 배열 + 상품별 응답 시점의 재고
+@Getter
+public final class ItemListJsonResponse implements PreSerializedJson {
+
+    private final List<ItemJson> items;
+    private final int[] stocks;
+    private final String eTag;
+
+    public ItemListJsonResponse(List<ItemJson> items, int[] stocks, String eTag) {
+        this.items = items;
+        this.stocks = stocks;
+        this.eTag = eTag;
+    }
+
+    @Override
+    public long contentLength() {
+        // 대괄호 2 + 구분 쉼표
+        long length = 2 + Math.max(items.size() - 1, 0);
+        for (int i = 0; i < items.size(); i++) {
+            length += items.get(i).length(stocks[i]);
+        }
+        return length;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write('[');
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            items.get(i).writeTo(out, stocks[i]);
+        }
+        out.write(']');
+    }
+}
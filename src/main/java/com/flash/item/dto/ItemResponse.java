@@ -1,5 +1,6 @@
 package com.flash.item.dto;
 
+import com.flash.item.domain.CatalogItem;
 import com.flash.item.domain.Item;
 import lombok.Getter;
 import java.time.LocalDateTime;
@@ -36,4 +37,16 @@ public class ItemResponse {
             item.getSaleEnd()
         );
     }
+    
+    public static ItemResponse of(CatalogItem item, int stock) {
+        return new ItemResponse(
+            item.getId(),
+            item.getName(),
+            item.getDescription(),
+            item.getPrice(),
+            stock,
+            item.getSaleStart(),
+            item.getSaleEnd()
+        );
+    }
 } 
\ No newline at end of file
@@ -21,6 +21,18 @@ public class ItemException {
         }
     }
 
+    public static class SoldOutException extends BaseException {
+        public SoldOutException() {
+            super("품절된 상품입니다.", "SOLD_OUT");
+        }
+
+        // 품절 응답은 매우 자주 발생하므로 스택 트레이스를 채우지 않는다
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     public ItemException() {
     }
 } 
\ No newline at end of file
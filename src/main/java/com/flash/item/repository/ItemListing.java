@@ -0,0 +1,13 @@
+package com.flash.item.repository;
+
+import java.time.LocalDateTime;
+
+// 카탈로그 변경 확인용 상품 정보 (재고와 설명 본문(TEXT)은 읽지 않고, 설명은 길이만 비교한다)
+public interface ItemListing {
+    Long getId();
+    String getName();
+    Integer getPrice();
+    LocalDateTime getSaleStart();
+    LocalDateTime getSaleEnd();
+    Integer getDescriptionLength();
+}
@@ -3,6 +3,7 @@ package com.flash.item.repository;
 import com.flash.item.domain.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,9 +17,23 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     @Query("SELECT i FROM Item i WHERE i.saleStart <= :now AND i.saleEnd >= :now")
     List<Item> findAllOnSale(@Param("now") LocalDateTime now);
     
-    Optional<Item> findOnSaleById(Long id);
+    @Query("select i.id as id, i.name as name, i.price as price from Item i where i.id = :id")
+    Optional<ItemSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("select i.id as id, i.name as name, i.price as price, i.saleStart as saleStart, i.saleEnd as saleEnd, "
+        + "length(i.description) as descriptionLength from Item i")
+    List<ItemListing> findAllListings();
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select i from Item i where i.id = :id")
     Optional<Item> findByIdWithPessimisticLock(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Item i set i.stock = i.stock - :quantity, i.version = i.version + 1 where i.id = :id")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Item i set i.stock = i.stock - :quantity, i.version = i.version + 1 "
+        + "where i.id = :id and i.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
 } 
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.flash.item.repository;
+
+// 주문 응답에 필요한 상품 정보 (엔티티를 영속성 컨텍스트에 올리지 않는 조회용)
+public interface ItemSummary {
+    Long getId();
+    String getName();
+    Integer getPrice();
+}
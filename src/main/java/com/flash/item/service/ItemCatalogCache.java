@@ -0,0 +1,230 @@
+package com.flash.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flash.common.db.Bulkhead;
+import com.flash.common.db.BulkheadType;
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.SaleState;
+import com.flash.item.dto.ItemJson;
+import com.flash.item.dto.ItemJsonResponse;
+import com.flash.item.dto.ItemListJsonResponse;
+import com.flash.item.repository.ItemListing;
+import com.flash.item.repository.ItemRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 판매 중 상품 목록의 불변 스냅샷. 상품 전체를 한 번 읽어 두고, 판매 일정 스케줄러가 상태를 전환할 때마다
+// DB 접근 없이 판매 중 목록만 다시 계산한다. 상품 정보는 refresh-interval-ms 마다 가벼운 조회(재고·설명 본문 제외)로
+// DB와 비교해 재고 외의 내용(이름, 가격, 판매 기간, 설명 길이)이 바뀌었거나 상품이 추가·삭제되었으면 다시 적재한다.
+// 적재할 때 상품별 응답 JSON(재고 제외)도 한 번만 직렬화해 둔다.
+// ETag는 (프로세스 시작 시각, 스냅샷 세대, 재고 버전)으로 만들어 DB 조회 없이 조건부 요청을 판단한다.
+@Slf4j
+@Component
+@Bulkhead(BulkheadType.CATALOG)
+public class ItemCatalogCache implements SaleLifecycleListener {
+
+    private final ItemRepository itemRepository;
+    private final StockLedger stockLedger;
+    private final StockWriteBehind stockWriteBehind;
+    private final LiveStockBoard liveStockBoard;
+    private final SaleLifecycleScheduler saleLifecycleScheduler;
+    private final ObjectMapper objectMapper;
+
+    // 재시작 후 세대/버전 번호가 다시 0부터 시작해도 이전 ETag와 겹치지 않도록 붙인다
+    private static final String ETAG_EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    private volatile Snapshot snapshot;
+    private long generation;
+
+    public ItemCatalogCache(ItemRepository itemRepository,
+                            StockLedger stockLedger,
+                            StockWriteBehind stockWriteBehind,
+                            LiveStockBoard liveStockBoard,
+                            SaleLifecycleScheduler saleLifecycleScheduler,
+                            ObjectMapper objectMapper) {
+        this.itemRepository = itemRepository;
+        this.stockLedger = stockLedger;
+        this.stockWriteBehind = stockWriteBehind;
+        this.liveStockBoard = liveStockBoard;
+        this.saleLifecycleScheduler = saleLifecycleScheduler;
+        this.objectMapper = objectMapper;
+    }
+
+    // 첫 요청을 기다리지 않고 기동 시 적재해 판매 일정을 등록한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("상품 카탈로그 적재 실패 (첫 조회 시 다시 시도)", e);
+        }
+    }
+
+    // 재고만 바뀐 경우는 실시간 재고로 반영되므로 다시 적재하지 않는다
+    @Scheduled(fixedDelayString = "${flash.item.catalog.refresh-interval-ms:10000}",
+        initialDelayString = "${flash.item.catalog.refresh-interval-ms:10000}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 아직 적재 전이면 첫 조회 때 적재한다
+            return;
+        }
+        try {
+            List<ItemListing> latest = itemRepository.findAllListings();
+            boolean changed = latest.size() != current.items.size()
+                || latest.stream().anyMatch(listing -> !sameListing(current.items.get(listing.getId()), listing));
+            if (changed) {
+                log.info("상품 정보 변경 감지, 카탈로그 다시 적재");
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.error("상품 카탈로그 변경 확인 실패", e);
+        }
+    }
+
+    public List<CatalogItem> getOnSaleItems() {
+        return snapshot().onSale;
+    }
+
+    public Optional<CatalogItem> findOnSale(Long itemId) {
+        CatalogItem item = snapshot().items.get(itemId);
+        return item != null && saleLifecycleScheduler.isOnSale(itemId) ? Optional.of(item) : Optional.empty();
+    }
+
+    // 스냅샷 재고 위에 실시간 재고를 덮어쓴다
+    public int stockOf(CatalogItem item) {
+        return liveStockBoard.stockOf(item.getId()).orElse(item.getStock());
+    }
+
+    // 미리 직렬화한 JSON에 현재 재고만 끼워 응답 본문을 만든다
+    public ItemListJsonResponse getOnSaleJson() {
+        Snapshot current = snapshot();
+        // 버전을 재고보다 먼저 읽는다 (본문이 ETag보다 새로운 것은 괜찮지만 반대는 안 된다)
+        String eTag = eTag(current, liveStockBoard.changeCount());
+        List<ItemJson> json = new ArrayList<>(current.onSale.size());
+        int[] stocks = new int[current.onSale.size()];
+        for (int i = 0; i < stocks.length; i++) {
+            CatalogItem item = current.onSale.get(i);
+            json.add(current.json.get(item.getId()));
+            stocks[i] = stockOf(item);
+        }
+        return new ItemListJsonResponse(json, stocks, eTag);
+    }
+
+    public Optional<ItemJsonResponse> findOnSaleJson(Long itemId) {
+        Snapshot current = snapshot();
+        CatalogItem item = current.items.get(itemId);
+        if (item == null || !saleLifecycleScheduler.isOnSale(itemId)) {
+            return Optional.empty();
+        }
+        // 재고와 버전을 한 번에 읽는다
+        long state = liveStockBoard.stateOf(itemId);
+        int stock = state == LiveStockBoard.NO_STATE ? item.getStock() : LiveStockBoard.stock(state);
+        long version = state == LiveStockBoard.NO_STATE ? 0 : LiveStockBoard.version(state);
+        return Optional.of(new ItemJsonResponse(current.json.get(itemId), stock, eTag(current, version)));
+    }
+
+    public synchronized void reload() {
+        // DB 재고와 지연 반영 차감분은 반영(flush)이 끼어들지 않게 함께 읽는다
+        Map<Long, Integer> committed = new HashMap<>();
+        Map<Long, CatalogItem> items = stockWriteBehind.readConsistently(() -> {
+            List<CatalogItem> loaded = itemRepository.findAll().stream()
+                .map(CatalogItem::from)
+                .toList();
+            loaded.forEach(item -> committed.put(item.getId(), item.getStock() - stockWriteBehind.pending(item.getId())));
+            return loaded.stream()
+                .collect(Collectors.toUnmodifiableMap(CatalogItem::getId, Function.identity()));
+        });
+
+        for (CatalogItem item : items.values()) {
+            // 커밋된 재고(아직 DB에 반영되지 않은 차감분까지 뺀 값)로만 맞춘다.
+            // 메모리 원장 값은 커밋 전 예약분까지 빠져 있어, 그 주문이 커밋되며 한 번 더 빠지게 된다
+            liveStockBoard.seed(item.getId(), committed.get(item.getId()));
+        }
+        Map<Long, ItemJson> json = items.values().stream()
+            .collect(Collectors.toUnmodifiableMap(CatalogItem::getId, item -> ItemJson.encode(objectMapper, item)));
+
+        saleLifecycleScheduler.register(items.values());
+        snapshot = Snapshot.of(++generation, items, json, saleLifecycleScheduler);
+        log.info("상품 카탈로그 적재: items={}, onSale={}", items.size(), snapshot.onSale.size());
+    }
+
+    // 판매 시작/종료: 상품은 그대로 두고 판매 중 목록만 다시 계산
+    @Override
+    public synchronized void onSaleStateChanged(Long itemId, SaleState state) {
+        if (snapshot == null) {
+            return;
+        }
+        // 판매 직전에 적재된 메모리 원장이 있으면 오픈 시점의 조회 재고를 원장 값으로 맞춘다
+        if (state == SaleState.ON_SALE) {
+            stockLedger.remaining(itemId).ifPresent(stock -> liveStockBoard.seed(itemId, stock));
+        }
+        snapshot = Snapshot.of(++generation, snapshot.items, snapshot.json, saleLifecycleScheduler);
+    }
+
+    private boolean sameListing(CatalogItem item, ItemListing listing) {
+        return item != null
+            && Objects.equals(item.getName(), listing.getName())
+            && Objects.equals(item.getPrice(), listing.getPrice())
+            && Objects.equals(item.getSaleStart(), listing.getSaleStart())
+            && Objects.equals(item.getSaleEnd(), listing.getSaleEnd())
+            && Objects.equals(descriptionLength(item.getDescription()), listing.getDescriptionLength());
+    }
+
+    // DB의 length() 는 문자 수이므로 코드 포인트 수로 비교한다
+    private Integer descriptionLength(String description) {
+        return description == null ? null : description.codePointCount(0, description.length());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private String eTag(Snapshot snapshot, long version) {
+        return ETAG_EPOCH + "." + snapshot.generation + "." + version;
+    }
+
+    private static final class Snapshot {
+        private final long generation;
+        private final Map<Long, CatalogItem> items;
+        private final Map<Long, ItemJson> json;
+        private final List<CatalogItem> onSale;
+
+        private Snapshot(long generation, Map<Long, CatalogItem> items, Map<Long, ItemJson> json, List<CatalogItem> onSale) {
+            this.generation = generation;
+            this.items = items;
+            this.json = json;
+            this.onSale = onSale;
+        }
+
+        private static Snapshot of(long generation, Map<Long, CatalogItem> items, Map<Long, ItemJson> json,
+                                   SaleLifecycleScheduler saleLifecycleScheduler) {
+            List<CatalogItem> onSale = items.values().stream()
+                .filter(item -> saleLifecycleScheduler.isOnSale(item.getId()))
+                .sorted(Comparator.comparing(CatalogItem::getId))
+                .toList();
+            return new Snapshot(generation, items, json, onSale);
+        }
+    }
+}
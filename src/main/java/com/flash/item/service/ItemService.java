@@ -1,9 +1,9 @@
 package com.flash.item.service;
 
-import com.flash.item.domain.Item;
-import java.util.List;
+import com.flash.item.dto.ItemJsonResponse;
+import com.flash.item.dto.ItemListJsonResponse;
 
 public interface ItemService {
-    List<Item> getAllOnSaleItems();
-    Item getOnSaleItemById(Long id);
+    ItemListJsonResponse getOnSaleCatalog();
+    ItemJsonResponse getOnSaleCatalogItem(Long id);
 } 
\ No newline at end of file
@@ -1,31 +1,34 @@
 package com.flash.item.service;
 
-import com.flash.item.domain.Item;
+import com.flash.common.db.Bulkhead;
+import com.flash.common.db.BulkheadType;
+import com.flash.item.dto.ItemJsonResponse;
+import com.flash.item.dto.ItemListJsonResponse;
 import com.flash.item.exception.ItemException;
-import com.flash.item.repository.ItemRepository;
-import java.time.LocalDateTime;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Bulkhead(BulkheadType.CATALOG)
 public class ItemServiceImpl implements ItemService {
     
-    private final ItemRepository itemRepository;
+    private final ItemCatalogCache itemCatalogCache;
     
+    // 카탈로그 캐시에서 응답하므로 트랜잭션(커넥션)을 열지 않는다
     @Override
-    @Transactional(readOnly = true)
-    public List<Item> getAllOnSaleItems() {
-        return itemRepository.findAllOnSale(LocalDateTime.now());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ItemListJsonResponse getOnSaleCatalog() {
+        return itemCatalogCache.getOnSaleJson();
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public Item getOnSaleItemById(Long id) {
-        return itemRepository.findOnSaleById(id)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ItemJsonResponse getOnSaleCatalogItem(Long id) {
+        return itemCatalogCache.findOnSaleJson(id)
             .orElseThrow(ItemException.ItemNotFoundException::new);
     }
 } 
\ No newline at end of file
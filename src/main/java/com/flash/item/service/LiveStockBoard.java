@@ -0,0 +1,77 @@
+package com.flash.item.service;
+
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 조회용 실시간 재고: 카탈로그 적재 시 DB 값으로 채우고, 이후에는 커밋된 구매 수량만큼 메모리에서 줄인다.
+// 상품별로 (변경 버전, 재고)를 long 하나에 묶어 두어 두 값을 항상 같은 시점으로 읽는다 (ETag 용).
+@Component
+public class LiveStockBoard {
+
+    public static final long NO_STATE = -1L;
+
+    private final ConcurrentHashMap<Long, AtomicLong> states = new ConcurrentHashMap<>();
+    // 어떤 상품이든 재고가 바뀔 때마다 증가 (목록 ETag 용)
+    private final AtomicLong changeCount = new AtomicLong();
+
+    public static int stock(long state) {
+        return (int) state;
+    }
+
+    public static long version(long state) {
+        return state >>> 32;
+    }
+
+    private static long pack(long version, int stock) {
+        return (version << 32) | stock;
+    }
+
+    public void seed(Long itemId, int stock) {
+        int seeded = Math.max(stock, 0);
+        states.computeIfAbsent(itemId, id -> new AtomicLong())
+            .updateAndGet(state -> pack(version(state) + 1, seeded));
+        changeCount.incrementAndGet();
+    }
+
+    // 상위 32비트: 버전, 하위 32비트: 재고. 적재되지 않은 상품이면 NO_STATE
+    public long stateOf(Long itemId) {
+        AtomicLong state = states.get(itemId);
+        return state == null ? NO_STATE : state.get();
+    }
+
+    public OptionalInt stockOf(Long itemId) {
+        long state = stateOf(itemId);
+        return state == NO_STATE ? OptionalInt.empty() : OptionalInt.of(stock(state));
+    }
+
+    public long changeCount() {
+        return changeCount.get();
+    }
+
+    public void decrease(Long itemId, int quantity) {
+        AtomicLong state = states.get(itemId);
+        if (state == null || quantity <= 0) {
+            return;
+        }
+        state.updateAndGet(current -> pack(version(current) + 1, Math.max(stock(current) - quantity, 0)));
+        changeCount.incrementAndGet();
+    }
+
+    // 구매 트랜잭션이 커밋된 뒤에만 반영
+    public void decreaseAfterCommit(Long itemId, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            decrease(itemId, quantity);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                decrease(itemId, quantity);
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.flash.item.service;
+
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.SaleState;
+
+// 판매 일정 스케줄러가 호출한다. 상태 전환은 타이밍 휠 스레드에서 호출되므로 오래 걸리는 작업은 하지 않는다
+public interface SaleLifecycleListener {
+
+    // 판매 시작 pre-sale-lead-ms 전 (재고 적재 등 준비 작업, 휠 스레드가 아닌 준비 작업 실행기에서 호출)
+    default void beforeSaleStart(CatalogItem item) {
+    }
+
+    default void onSaleStateChanged(Long itemId, SaleState state) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.flash.item.service;
+
+import com.flash.common.time.HierarchicalTimingWheel;
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.SaleState;
+import com.flash.item.exception.ItemException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 상품별 판매 상태(UPCOMING -> ON_SALE -> ENDED)를 판매 시작/종료 시각에 타이밍 휠로 전환해 두고,
+// 조회·구매 경로는 매 요청마다 시각을 비교하는 대신 이 상태 표만 읽는다.
+// 판매 시작 pre-sale-lead-ms 전에는 리스너의 준비 작업(재고 적재 등)을 실행한다.
+// 준비 작업은 DB를 읽을 수 있으므로 휠 스레드가 아닌 별도 실행기에서 돌린다.
+@Slf4j
+@Component
+public class SaleLifecycleScheduler {
+
+    private final ObjectProvider<SaleLifecycleListener> listeners;
+    private final HierarchicalTimingWheel wheel;
+    private final long preSaleLeadMillis;
+    private final Clock clock;
+    private final Executor preSaleExecutor;
+
+    private final ConcurrentHashMap<Long, SaleState> states = new ConcurrentHashMap<>();
+    // 다시 등록하면 이전 등록으로 예약된 작업은 취소하고, 이미 꺼내져 실행 중인 작업도 무시한다
+    private long generation;
+    private List<HierarchicalTimingWheel.Timer> scheduled = List.of();
+
+    @Autowired
+    public SaleLifecycleScheduler(ObjectProvider<SaleLifecycleListener> listeners,
+                                  @Value("${flash.sale.tick-ms:10}") long tickMillis,
+                                  @Value("${flash.sale.wheel-size:512}") int wheelSize,
+                                  @Value("${flash.sale.wheel-levels:4}") int wheelLevels,
+                                  @Value("${flash.sale.pre-sale-lead-ms:60000}") long preSaleLeadMillis,
+                                  @Value("${flash.sale.pre-sale-threads:2}") int preSaleThreads) {
+        this(listeners, tickMillis, wheelSize, wheelLevels, preSaleLeadMillis, Clock.systemDefaultZone(),
+            Executors.newFixedThreadPool(preSaleThreads, runnable -> {
+                Thread thread = new Thread(runnable, "sale-pre-sale");
+                thread.setDaemon(true);
+                return thread;
+            }));
+    }
+
+    SaleLifecycleScheduler(ObjectProvider<SaleLifecycleListener> listeners,
+                           long tickMillis,
+                           int wheelSize,
+                           int wheelLevels,
+                           long preSaleLeadMillis,
+                           Clock clock,
+                           Executor preSaleExecutor) {
+        this.listeners = listeners;
+        this.wheel = new HierarchicalTimingWheel(tickMillis, wheelSize, wheelLevels, clock::millis);
+        this.preSaleLeadMillis = preSaleLeadMillis;
+        this.clock = clock;
+        this.preSaleExecutor = preSaleExecutor;
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel.start("sale-lifecycle");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+        if (preSaleExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // 등록되지 않은 상품이면 null
+    public SaleState stateOf(Long itemId) {
+        return states.get(itemId);
+    }
+
+    public boolean isOnSale(Long itemId) {
+        return states.get(itemId) == SaleState.ON_SALE;
+    }
+
+    // 카탈로그에 아직 없는 상품은 막지 않는다 (재고 차감 단계에서 상품 존재 여부를 확인한다)
+    public void checkPurchasable(Long itemId) {
+        SaleState state = states.get(itemId);
+        if (state != null && state != SaleState.ON_SALE) {
+            throw new ItemException.ItemNotOnSaleException();
+        }
+    }
+
+    public List<Long> onSaleItemIds() {
+        return states.entrySet().stream()
+            .filter(entry -> entry.getValue() == SaleState.ON_SALE)
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+    }
+
+    // 카탈로그 적재 시 호출: 현재 상태를 한 번 계산해 두고 이후 경계 시각의 전환을 예약한다
+    public synchronized void register(Collection<CatalogItem> items) {
+        long current = ++generation;
+        scheduled.forEach(HierarchicalTimingWheel.Timer::cancel);
+        List<HierarchicalTimingWheel.Timer> timers = new ArrayList<>();
+        long now = clock.millis();
+        Set<Long> ids = items.stream().map(CatalogItem::getId).collect(Collectors.toSet());
+        states.keySet().retainAll(ids);
+
+        for (CatalogItem item : items) {
+            long start = toMillis(item.getSaleStart());
+            long end = toMillis(item.getSaleEnd());
+            states.put(item.getId(), now < start ? SaleState.UPCOMING : now < end ? SaleState.ON_SALE : SaleState.ENDED);
+
+            if (now < start) {
+                // 준비 시간보다 늦게 등록되었으면 바로 실행
+                timers.add(wheel.schedule(Math.max(start - preSaleLeadMillis, now),
+                    () -> preSaleExecutor.execute(() -> preSale(current, item))));
+                timers.add(wheel.schedule(start, () -> transition(current, item.getId(), SaleState.ON_SALE)));
+            }
+            if (now < end) {
+                timers.add(wheel.schedule(end, () -> transition(current, item.getId(), SaleState.ENDED)));
+            }
+        }
+        scheduled = timers;
+        log.info("판매 일정 등록: items={}, scheduled={}", items.size(), wheel.pendingCount());
+    }
+
+    // 타이밍 휠의 현재 시각까지 밀린 전환을 처리한다 (테스트용)
+    void advance() {
+        wheel.advanceTo(clock.millis());
+    }
+
+    private void preSale(long registered, CatalogItem item) {
+        synchronized (this) {
+            if (registered != generation) {
+                return;
+            }
+        }
+        try {
+            listeners.orderedStream().forEach(listener -> listener.beforeSaleStart(item));
+        } catch (RuntimeException e) {
+            log.error("판매 시작 준비 작업 실패: itemId={}", item.getId(), e);
+        }
+    }
+
+    private void transition(long registered, Long itemId, SaleState next) {
+        SaleState previous;
+        synchronized (this) {
+            if (registered != generation) {
+                return;
+            }
+            // 상태는 앞으로만 진행 (같은 tick 에 시작/종료가 겹쳐도 ENDED 가 ON_SALE 로 돌아가지 않는다)
+            previous = states.get(itemId);
+            if (previous == null || previous.ordinal() >= next.ordinal()) {
+                return;
+            }
+            states.put(itemId, next);
+        }
+        log.info("판매 상태 전환: itemId={}, {} -> {}", itemId, previous, next);
+        listeners.orderedStream().forEach(listener -> listener.onSaleStateChanged(itemId, next));
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,45 @@
+package com.flash.item.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 재고가 0이 된 상품 목록: 구매 요청이 들어오면 저장소 접근 전에 먼저 확인해 바로 거절한다
+@Component
+public class SoldOutRegistry {
+
+    private final Set<Long> soldOutItems = ConcurrentHashMap.newKeySet();
+
+    public boolean isSoldOut(Long itemId) {
+        return soldOutItems.contains(itemId);
+    }
+
+    public void markSoldOut(Long itemId) {
+        soldOutItems.add(itemId);
+    }
+
+    // 마지막 재고를 차감한 트랜잭션이 커밋된 뒤에만 품절로 표시
+    public void markSoldOutAfterCommit(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markSoldOut(itemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markSoldOut(itemId);
+            }
+        });
+    }
+
+    // 재입고, 주문 취소, 선점 반환 등으로 재고가 다시 생기면 해제
+    public void clear(Long itemId) {
+        soldOutItems.remove(itemId);
+    }
+
+    public void clearAll() {
+        soldOutItems.clear();
+    }
+}
@@ -0,0 +1,99 @@
+package com.flash.item.service;
+
+import com.flash.item.domain.StripedStock;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 프로세스 전역 재고 원장: 판매 오픈 시 DB 재고를 적재하고 이후 선점은 DB 락 없이 셀 단위 CAS로 처리
+@Component
+@RequiredArgsConstructor
+public class StockLedger {
+
+    private final StockWriteBehind stockWriteBehind;
+    private final SoldOutRegistry soldOutRegistry;
+
+    private final ConcurrentHashMap<Long, StripedStock> ledger = new ConcurrentHashMap<>();
+
+    public void load(Long itemId, int stock) {
+        ledger.put(itemId, new StripedStock(stock));
+    }
+
+    // 판매 오픈 전에 미리 적재해 첫 구매 요청이 DB 조회를 기다리지 않게 한다
+    public void preload(Long itemId) {
+        stockOf(itemId);
+    }
+
+    public void evict(Long itemId) {
+        ledger.remove(itemId);
+    }
+
+    public void evictAll() {
+        ledger.clear();
+    }
+
+    public boolean isLoaded(Long itemId) {
+        return ledger.containsKey(itemId);
+    }
+
+    public OptionalInt remaining(Long itemId) {
+        StripedStock stock = ledger.get(itemId);
+        return stock == null ? OptionalInt.empty() : OptionalInt.of(stock.sum());
+    }
+
+    public boolean tryReserve(Long itemId, int quantity) {
+        StripedStock stock = stockOf(itemId);
+        boolean reserved = stock.tryDecrease(quantity);
+        if (stock.sum() == 0) {
+            soldOutRegistry.markSoldOut(itemId);
+            // 합계를 본 뒤 표시하기 전에 release 가 끼어들었다면 그쪽의 해제가 먼저 지나갔으므로 직접 되돌린다
+            if (stock.sum() > 0) {
+                soldOutRegistry.clear(itemId);
+            }
+        }
+        return reserved;
+    }
+
+    public void release(Long itemId, int quantity) {
+        StripedStock stock = ledger.get(itemId);
+        if (stock != null) {
+            stock.increase(quantity);
+            soldOutRegistry.clear(itemId);
+        }
+    }
+
+    // 트랜잭션이 커밋되지 못하면 선점한 재고를 원장에 되돌린다
+    public void releaseOnRollback(Long itemId, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(itemId, quantity);
+                }
+            }
+        });
+    }
+
+    // DB 조회는 computeIfAbsent 밖에서 해 조회하는 동안 같은 버킷의 다른 상품 갱신을 막지 않는다.
+    // 동시에 적재한 요청이 있으면 먼저 들어간 원장을 쓴다
+    private StripedStock stockOf(Long itemId) {
+        StripedStock stock = ledger.get(itemId);
+        if (stock != null) {
+            return stock;
+        }
+        StripedStock loaded = loadFromRepository(itemId);
+        StripedStock existing = ledger.putIfAbsent(itemId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private StripedStock loadFromRepository(Long itemId) {
+        // 아직 DB에 반영되지 않은 차감분을 빼고 적재 (반영과 겹치지 않게 함께 읽는다)
+        return new StripedStock(stockWriteBehind.availableStock(itemId));
+    }
+}
@@ -0,0 +1,281 @@
+package com.flash.item.service;
+
+import com.flash.item.exception.ItemException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.DataWithMediaType;
+
+// 상품별 재고 변경을 SSE 구독자에게 밀어준다. 상품마다 방송 채널 하나를 두고, interval-ms 마다 재고 버전을 확인해
+// 바뀐 경우에만 이벤트를 한 번 만들어 모든 구독자에게 보낸다. 전송은 구독자별로 별도 스레드에서 하며,
+// 밀린 이벤트는 최신 값 하나로 합쳐지므로 느린 구독자가 방송이나 다른 구독자를 막지 않는다.
+// 동시에 전송하는 수는 send-threads 개의 전송 허가로 제한한다. 한 번의 전송이 write-timeout-ms 를 넘기면
+// 방송 주기에 그 구독자를 끊고 허가를 회수해 다른 구독자 전송에 쓰며, 응답은 실패로 끝내 컨테이너가 닫게 한다.
+// 서블릿 출력 스트림 쓰기는 인터럽트로 풀리지 않으므로 막힌 스레드는 쓰기가 끝날 때까지 허가 없이 남겨 둔다.
+@Slf4j
+@Component
+public class StockStreamBroadcaster {
+
+    private final ItemCatalogCache itemCatalogCache;
+    private final LiveStockBoard liveStockBoard;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final ExecutorService senders;
+    private final Semaphore sendPermits;
+    // 보낼 이벤트가 있고 전송 허가를 기다리는 구독자
+    private final ConcurrentLinkedQueue<Subscriber> ready = new ConcurrentLinkedQueue<>();
+
+    private final ConcurrentHashMap<Long, ItemStream> streams = new ConcurrentHashMap<>();
+
+    public StockStreamBroadcaster(ItemCatalogCache itemCatalogCache,
+                                  LiveStockBoard liveStockBoard,
+                                  @Value("${flash.item.stream.timeout-ms:600000}") long timeoutMillis,
+                                  @Value("${flash.item.stream.write-timeout-ms:2000}") long writeTimeoutMillis,
+                                  @Value("${flash.item.stream.send-threads:4}") int sendThreads) {
+        this.itemCatalogCache = itemCatalogCache;
+        this.liveStockBoard = liveStockBoard;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stock-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendPermits = new Semaphore(sendThreads);
+    }
+
+    public SseEmitter subscribe(Long itemId) {
+        if (itemCatalogCache.findOnSale(itemId).isEmpty()) {
+            throw new ItemException.ItemNotFoundException();
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(itemId, emitter);
+        // 채널 생성/삭제와 구독자 추가/제거를 같은 키의 compute 안에서 처리해 빈 채널 삭제와 경합하지 않게 한다
+        streams.compute(itemId, (id, stream) -> {
+            ItemStream target = stream == null ? new ItemStream(id, liveStockBoard.stateOf(id)) : stream;
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(e -> subscriber.remove());
+
+        // 구독 직후 현재 재고를 한 번 보낸다
+        long state = liveStockBoard.stateOf(itemId);
+        if (state != LiveStockBoard.NO_STATE) {
+            subscriber.offer(event(itemId, state));
+        }
+        return emitter;
+    }
+
+    public int subscriberCount(Long itemId) {
+        ItemStream stream = streams.get(itemId);
+        return stream == null ? 0 : stream.subscribers.size();
+    }
+
+    // 재고가 여러 번 바뀌어도 주기마다 최신 값 한 번만 보낸다
+    @Scheduled(fixedDelayString = "${flash.item.stream.interval-ms:500}")
+    public void broadcast() {
+        long now = System.nanoTime();
+        for (ItemStream stream : streams.values()) {
+            stream.subscribers.forEach(subscriber -> subscriber.expireSlowWrite(now));
+
+            long state = liveStockBoard.stateOf(stream.itemId);
+            if (state == LiveStockBoard.NO_STATE || state == stream.lastState) {
+                continue;
+            }
+            stream.lastState = state;
+
+            // 이벤트는 상품당 한 번만 만들고 모든 구독자가 같은 객체를 보낸다
+            Set<DataWithMediaType> event = event(stream.itemId, state);
+            for (Subscriber subscriber : stream.subscribers) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streams.values().forEach(stream -> stream.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdown();
+    }
+
+    // 남은 전송 허가만큼 대기 중인 구독자의 전송을 시작한다 (허가를 돌려준 쪽은 반드시 다시 호출한다)
+    private void dispatch() {
+        while (!ready.isEmpty() && sendPermits.tryAcquire()) {
+            Subscriber subscriber = ready.poll();
+            if (subscriber == null) {
+                sendPermits.release();
+                continue;
+            }
+            try {
+                senders.execute(subscriber::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                sendPermits.release();
+                return;
+            }
+        }
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private Set<DataWithMediaType> event(Long itemId, long state) {
+        String data = "{\"itemId\":" + itemId + ",\"stock\":" + LiveStockBoard.stock(state) + "}";
+        return SseEmitter.event()
+            .name("stock")
+            .id(Long.toString(LiveStockBoard.version(state)))
+            .data(data, MediaType.APPLICATION_JSON)
+            .build();
+    }
+
+    private final class ItemStream {
+        private final Long itemId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // 마지막으로 방송한 상태 (처음에는 구독 시 보낸 현재 상태)
+        private volatile long lastState;
+
+        private ItemStream(Long itemId, long lastState) {
+            this.itemId = itemId;
+            this.lastState = lastState;
+        }
+    }
+
+    private final class Subscriber {
+        private final Long itemId;
+        private final SseEmitter emitter;
+        private final AtomicReference<Set<DataWithMediaType>> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // 전송 상태 (this 로 보호)
+        private boolean holdsPermit;
+        private boolean writing;
+        private long writeStartedAt;
+        private boolean dropped;
+
+        private Subscriber(Long itemId, SseEmitter emitter) {
+            this.itemId = itemId;
+            this.emitter = emitter;
+        }
+
+        // 아직 보내지 못한 이벤트가 있으면 최신 이벤트로 덮어쓴다
+        private void offer(Set<DataWithMediaType> event) {
+            pending.set(event);
+            if (scheduled.compareAndSet(false, true)) {
+                ready.add(this);
+                dispatch();
+            }
+        }
+
+        // 전송 허가 하나를 쥔 채 실행된다
+        private void flush() {
+            synchronized (this) {
+                holdsPermit = true;
+            }
+            try {
+                sendPending();
+            } finally {
+                releasePermit();
+            }
+        }
+
+        private void sendPending() {
+            while (true) {
+                Set<DataWithMediaType> event = pending.getAndSet(null);
+                if (event != null) {
+                    if (!beginWrite()) {
+                        return;
+                    }
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // 연결이 끊긴 구독자 (전송이 느려 이미 끊었다면 완료 처리도 끝났다)
+                        if (!endWrite()) {
+                            remove();
+                            emitter.completeWithError(e);
+                        }
+                        return;
+                    }
+                    if (endWrite()) {
+                        return;
+                    }
+                }
+                scheduled.set(false);
+                if (pending.get() == null || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        private synchronized boolean beginWrite() {
+            if (dropped) {
+                return false;
+            }
+            writing = true;
+            writeStartedAt = System.nanoTime();
+            return true;
+        }
+
+        // 전송 중에 끊겼으면 true
+        private synchronized boolean endWrite() {
+            writing = false;
+            return dropped;
+        }
+
+        // 허가는 한 번만 돌려준다 (느린 전송을 끊을 때 먼저 회수했으면 전송 스레드는 돌려주지 않는다)
+        private void releasePermit() {
+            synchronized (this) {
+                if (!holdsPermit) {
+                    return;
+                }
+                holdsPermit = false;
+            }
+            sendPermits.release();
+            dispatch();
+        }
+
+        // 방송 주기에 호출: 한 번의 전송이 너무 오래 걸리면 구독을 끊고 전송 허가를 회수한다.
+        // 응답 실패 처리는 send 와 같은 락을 쓰므로 방송 스레드가 기다리지 않게 따로 실행한다
+        private void expireSlowWrite(long now) {
+            synchronized (this) {
+                if (!writing || dropped || now - writeStartedAt < writeTimeoutNanos) {
+                    return;
+                }
+                dropped = true;
+            }
+            log.warn("느린 재고 스트림 구독자 연결 종료: itemId={}", itemId);
+            remove();
+            releasePermit();
+            try {
+                senders.execute(() -> emitter.completeWithError(new TimeoutException("SSE write timed out")));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+            }
+        }
+
+        private void remove() {
+            streams.computeIfPresent(itemId, (id, stream) -> {
+                stream.subscribers.remove(this);
+                return stream.subscribers.isEmpty() ? null : stream;
+            });
+        }
+    }
+}
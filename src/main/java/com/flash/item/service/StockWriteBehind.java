@@ -0,0 +1,199 @@
+package com.flash.item.service;
+
+import com.flash.item.domain.Item;
+import com.flash.item.exception.ItemException;
+import com.flash.item.repository.ItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 커밋된 재고 차감분을 상품별로 모아 두었다가 주기적으로(또는 임계치 도달 시) 한 번에 DB에 반영한다.
+// DB 재고는 최대 interval-ms 만큼 늦게 반영되며, 그동안의 기준 재고는 StockLedger가 가진다.
+// 반영이 계속 실패해 대기 차감분이 max-backlog 를 넘으면 isBacklogged() 로 새 선점을 막는다.
+@Slf4j
+@Component
+public class StockWriteBehind {
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTemplate;
+    private final TaskScheduler taskScheduler;
+    private final int flushThreshold;
+    private final int maxBacklog;
+    private final Counter flushFailures;
+
+    private final ConcurrentHashMap<Long, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingTotal = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 반영 순번: 반영이 DB와 대기 차감분을 바꾸는 동안 홀수다 (읽는 쪽은 앞뒤 순번이 같은 짝수일 때만 값을 쓴다)
+    private final AtomicLong flushSequence = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    public StockWriteBehind(ItemRepository itemRepository,
+                            PlatformTransactionManager transactionManager,
+                            TaskScheduler taskScheduler,
+                            MeterRegistry meterRegistry,
+                            @Value("${flash.stock.write-behind.flush-threshold:500}") int flushThreshold,
+                            @Value("${flash.stock.write-behind.max-backlog:20000}") int maxBacklog) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출자 트랜잭션의 스냅샷이나 영속성 컨텍스트가 아닌 최신 커밋 값을 읽도록 따로 연다
+        // (readOnly 로 열면 복제본으로 갈 수 있으므로 쓰지 않는다)
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskScheduler = taskScheduler;
+        this.flushThreshold = flushThreshold;
+        this.maxBacklog = maxBacklog;
+        this.flushFailures = meterRegistry.counter("flash.stock.write-behind.flush.failures");
+        meterRegistry.gauge("flash.stock.write-behind.backlog", pendingTotal);
+    }
+
+    public void record(Long itemId, int quantity) {
+        pending.computeIfAbsent(itemId, id -> new AtomicInteger()).addAndGet(quantity);
+
+        // 임계치를 넘으면 주기를 기다리지 않고 바로 반영
+        if (pendingTotal.addAndGet(quantity) >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    // 주문 트랜잭션이 커밋된 뒤에만 차감분을 쌓는다
+    public void recordAfterCommit(Long itemId, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(itemId, quantity);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(itemId, quantity);
+            }
+        });
+    }
+
+    public int pending(Long itemId) {
+        AtomicInteger delta = pending.get(itemId);
+        return delta == null ? 0 : delta.get();
+    }
+
+    // 반영이 밀려 대기 차감분이 상한을 넘었는지 (넘으면 DB에 반영될 때까지 새 선점을 받지 않는다)
+    public boolean isBacklogged() {
+        return pendingTotal.get() >= maxBacklog;
+    }
+
+    // DB 재고에서 아직 반영되지 않은 차감분을 뺀 값.
+    // 반영 도중에 두 값을 따로 읽으면 같은 차감분이 두 번 빠지거나 한 번도 빠지지 않으므로
+    // DB 재고 -> 대기 차감분 순서로 읽고, 그 사이에 반영이 있었으면 다시 읽는다.
+    public int availableStock(Long itemId) {
+        return readConsistently(() -> {
+            Item item = itemRepository.findById(itemId)
+                .orElseThrow(ItemException.ItemNotFoundException::new);
+            return item.getStock() - pending(itemId);
+        });
+    }
+
+    // 여러 상품의 DB 재고와 pending() 을 함께 읽을 때 사용.
+    // 반영 락을 잡지 않고 읽은 뒤 반영 순번이 그대로인지 확인한다 (DB 조회가 느려도 반영을 막지 않는다)
+    public <T> T readConsistently(Supplier<T> reader) {
+        while (true) {
+            long sequence = flushSequence.get();
+            if ((sequence & 1) == 0) {
+                T value = readTemplate.execute(status -> reader.get());
+                if (flushSequence.get() == sequence) {
+                    return value;
+                }
+            } else {
+                // 반영 중이면 끝날 때까지 잠시 기다린다
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${flash.stock.write-behind.interval-ms:100}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 시 또는 구매 방식 전환 시 남은 차감분을 모두 반영할 때까지 기다린다
+    @PreDestroy
+    public void flushNow() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        flushRequested.set(false);
+        Map<Long, Integer> batch = new HashMap<>();
+        pending.forEach((itemId, delta) -> {
+            int quantity = delta.get();
+            if (quantity > 0) {
+                batch.put(itemId, quantity);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        flushSequence.incrementAndGet();
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(itemRepository::decreaseStock));
+            } catch (RuntimeException e) {
+                // 반영에 실패한 차감분은 그대로 남겨 다음 주기에 다시 시도
+                flushFailures.increment();
+                int failures = consecutiveFailures.incrementAndGet();
+                if (isBacklogged()) {
+                    log.error("재고 일괄 반영 연속 실패, 새 선점 중단: failures={}, backlog={}, batch={}",
+                        failures, pendingTotal.get(), batch, e);
+                } else {
+                    log.warn("재고 일괄 반영 실패: failures={}, backlog={}, batch={}",
+                        failures, pendingTotal.get(), batch, e);
+                }
+                return;
+            }
+
+            // 커밋이 끝난 뒤에 대기 목록에서 빼야 원장 재적재 시 차감분이 누락되지 않는다
+            batch.forEach((itemId, quantity) -> {
+                pending.get(itemId).addAndGet(-quantity);
+                pendingTotal.addAndGet(-quantity);
+            });
+            consecutiveFailures.set(0);
+        } finally {
+            flushSequence.incrementAndGet();
+        }
+    }
+}
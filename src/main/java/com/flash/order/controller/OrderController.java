@@ -1,14 +1,30 @@
 package com.flash.order.controller;
 
-import com.flash.order.domain.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flash.admission.domain.AdmissionTicket;
+import com.flash.admission.service.AdmissionService;
+import com.flash.common.db.ReadYourWritesWindow;
+import com.flash.common.idempotency.IdempotencyCache;
+import com.flash.item.exception.ItemException;
+import com.flash.item.service.SaleLifecycleScheduler;
+import com.flash.item.service.SoldOutRegistry;
+import com.flash.order.domain.PurchaseTicket;
+import com.flash.order.dto.OrderPageResponse;
 import com.flash.order.dto.OrderResponse;
+import com.flash.order.dto.PurchaseTicketResponse;
+import com.flash.order.service.AsyncPurchaseProcessor;
 import com.flash.order.service.OrderService;
+import com.flash.order.service.PurchaseQuotaGuard;
+import com.flash.order.service.StockReservationStrategySelector;
 import com.flash.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -16,22 +32,115 @@ import java.util.stream.Collectors;
 public class OrderController {
     
     private final OrderService orderService;
+    private final StockReservationStrategySelector strategySelector;
+    private final AdmissionService admissionService;
+    private final SaleLifecycleScheduler saleLifecycleScheduler;
+    private final SoldOutRegistry soldOutRegistry;
+    private final PurchaseQuotaGuard purchaseQuotaGuard;
+    private final IdempotencyCache idempotencyCache;
+    private final AsyncPurchaseProcessor asyncPurchaseProcessor;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final ObjectMapper objectMapper;
     
     @PostMapping("/purchase")
     public ResponseEntity<OrderResponse> purchaseItem(
         @RequestParam Long itemId, 
         @RequestParam Long userId,
-        @RequestParam(defaultValue = "1") Integer quantity
+        @RequestParam(defaultValue = "1") Integer quantity,
+        @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        Order order = orderService.createOrderV3(userId, itemId, quantity);
-        return ResponseEntity.ok(OrderResponse.from(order));
+        // 같은 키로 재전송된 요청은 원래 요청의 결과를 그대로 돌려준다
+        OrderResponse response = idempotencyCache.execute("purchase", userId, idempotencyKey, List.of(itemId, quantity),
+            () -> purchase(itemId, userId, quantity, admissionToken));
+        return ResponseEntity.ok(response);
     }
     
+    // 접수만 하고 202로 바로 응답, 결과는 접수 번호로 조회
+    @PostMapping("/purchase/async")
+    public ResponseEntity<PurchaseTicketResponse> purchaseItemAsync(
+        @RequestParam Long itemId,
+        @RequestParam Long userId,
+        @RequestParam(defaultValue = "1") Integer quantity,
+        @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        PurchaseTicket ticket = idempotencyCache.execute("purchase-async", userId, idempotencyKey, List.of(itemId, quantity), () -> {
+            AdmissionTicket admission = checkAdmission(itemId, userId, admissionToken);
+            // 접수 후 워커에서 실패해도 입장 번호를 되돌린다
+            return asyncPurchaseProcessor.submit(userId, itemId, quantity, () -> admissionService.restore(admission));
+        });
+        return ResponseEntity.accepted().body(PurchaseTicketResponse.from(ticket));
+    }
+    
+    @GetMapping("/purchase/tickets/{ticketId}")
+    public ResponseEntity<PurchaseTicketResponse> getPurchaseTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(PurchaseTicketResponse.from(asyncPurchaseProcessor.getTicket(ticketId)));
+    }
+    
+    private AdmissionTicket checkAdmission(Long itemId, Long userId, String admissionToken) {
+        // 판매 시작 전/종료 후 상품은 시각 비교 없이 판매 상태 표로 거절
+        saleLifecycleScheduler.checkPurchasable(itemId);
+        // 품절 상품은 저장소 접근 없이 즉시 거절
+        if (soldOutRegistry.isSoldOut(itemId)) {
+            throw new ItemException.SoldOutException();
+        }
+        // 대기실을 통과하지 못한 요청은 DB 커넥션을 잡기 전에 메모리에서 거절
+        return admissionService.enter(itemId, userId, admissionToken);
+    }
+    
+    private OrderResponse purchase(Long itemId, Long userId, Integer quantity, String admissionToken) {
+        AdmissionTicket admission = checkAdmission(itemId, userId, admissionToken);
+        // 사용자별 구매 수량 제한은 락을 잡기 전에 메모리에서 확인
+        try {
+            purchaseQuotaGuard.acquire(userId, itemId, quantity);
+        } catch (RuntimeException e) {
+            admissionService.restore(admission);
+            throw e;
+        }
+        
+        // 상품별(또는 전역) 설정된 구매 방식으로 처리 (응답은 트랜잭션 안에서 완성되어 나온다)
+        OrderResponse order;
+        try {
+            order = strategySelector.resolve(itemId).purchase(userId, itemId, quantity);
+        } catch (RuntimeException e) {
+            // 실패한 구매는 수량 한도와 입장 번호를 모두 되돌려 다시 시도할 수 있게 한다
+            purchaseQuotaGuard.release(userId, itemId, quantity);
+            admissionService.restore(admission);
+            throw e;
+        }
+        // 직후의 주문 내역 조회가 복제 지연으로 누락되지 않도록 원본 DB로 읽게 한다
+        readYourWritesWindow.recordWrite(userId);
+        return order;
+    }
+    
+    // 최신순 키셋 페이지: 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지
     @GetMapping("/orders")
-    public ResponseEntity<List<OrderResponse>> getOrders(
-        @RequestParam Long userId
+    public ResponseEntity<OrderPageResponse> getOrders(
+        @RequestParam Long userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
     ) {
-        List<OrderResponse> orders = orderService.getOrdersByUserId(userId);
-        return ResponseEntity.ok(orders);
+        return ResponseEntity.ok(orderService.getOrdersByUserId(userId, cursor, size));
+    }
+    
+    // 전체 내역을 한 줄에 주문 하나씩(NDJSON) 내려준다. 키셋 페이지 단위로 짧은 트랜잭션에서 읽으므로
+    // 느린 클라이언트가 읽는 동안 DB 연결이나 커서를 붙잡지 않는다
+    @GetMapping(value = "/orders/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders(@RequestParam Long userId) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            String cursor = null;
+            do {
+                // 크기는 서비스에서 max-page-size 로 제한된다
+                OrderPageResponse page = orderService.getOrdersByUserId(userId, cursor, Integer.MAX_VALUE);
+                for (OrderResponse order : page.getOrders()) {
+                    out.write(writer.writeValueAsBytes(order));
+                    out.write('\n');
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
-} 
\ No newline at end of file
+}
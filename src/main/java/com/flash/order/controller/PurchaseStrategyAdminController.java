@@ -0,0 +1,46 @@
+package com.flash.order.controller;
+
+import com.flash.order.dto.PurchaseStrategyResponse;
+import com.flash.order.service.StockReservationStrategySelector;
+import com.flash.order.service.StockReservationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/purchase-strategies")
+@RequiredArgsConstructor
+public class PurchaseStrategyAdminController {
+
+    private final StockReservationStrategySelector strategySelector;
+
+    @GetMapping
+    public ResponseEntity<PurchaseStrategyResponse> getStrategies() {
+        return ResponseEntity.ok(currentStrategies());
+    }
+
+    @PutMapping("/default")
+    public ResponseEntity<PurchaseStrategyResponse> changeDefault(@RequestParam StockReservationType strategy) {
+        strategySelector.changeDefault(strategy);
+        return ResponseEntity.ok(currentStrategies());
+    }
+
+    @PutMapping("/items/{itemId}")
+    public ResponseEntity<PurchaseStrategyResponse> changeItem(
+        @PathVariable Long itemId,
+        @RequestParam StockReservationType strategy
+    ) {
+        strategySelector.change(itemId, strategy);
+        return ResponseEntity.ok(currentStrategies());
+    }
+
+    @DeleteMapping("/items/{itemId}")
+    public ResponseEntity<PurchaseStrategyResponse> resetItem(@PathVariable Long itemId) {
+        strategySelector.reset(itemId);
+        return ResponseEntity.ok(currentStrategies());
+    }
+
+    private PurchaseStrategyResponse currentStrategies() {
+        return new PurchaseStrategyResponse(strategySelector.getDefaultType(), strategySelector.getItemTypes());
+    }
+}
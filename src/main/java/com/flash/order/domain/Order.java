@@ -2,6 +2,7 @@ package com.flash.order.domain;
 
 import com.flash.item.domain.Item;
 import com.flash.user.domain.User;
+import com.flash.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -10,13 +11,16 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "flash_orders")
+// 주문 내역 키셋 페이지/스트리밍: user_id 로 범위를 좁히고 (created_at, id) 순서를 그대로 읽는다
+@Table(name = "flash_orders", indexes = {
+    @Index(name = "idx_flash_orders_user_created_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
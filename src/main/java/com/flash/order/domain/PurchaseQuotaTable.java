@@ -0,0 +1,127 @@
+package com.flash.order.domain;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// (사용자 ID, 상품 ID)를 long 하나로 묶은 키별 구매 수량 테이블.
+// 개방 주소법으로 슬롯을 CAS 선점하고 수량도 CAS로 올리므로 락 없이 동작한다.
+// 키는 한 번 들어가면 지우지 않으며, 테이블이 가득 차면 넘친 키만 보조 맵에 보관한다.
+public class PurchaseQuotaTable {
+
+    private static final long EMPTY = 0L;
+    private static final long MAX_ID = 0xFFFFFFFFL;
+
+    private final AtomicLongArray keys;
+    private final AtomicIntegerArray units;
+    private final int mask;
+    private final ConcurrentHashMap<Long, AtomicInteger> overflow = new ConcurrentHashMap<>();
+
+    public PurchaseQuotaTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.keys = new AtomicLongArray(size);
+        this.units = new AtomicIntegerArray(size);
+        this.mask = size - 1;
+    }
+
+    // pack 할 수 있는 ID 쌍인지 확인한다. 범위 밖의 ID는 호출하는 쪽에서 따로 보관해야 한다
+    public static boolean packable(long userId, long itemId) {
+        return userId > 0 && userId <= MAX_ID && itemId > 0 && itemId <= MAX_ID;
+    }
+
+    // 두 ID 모두 32비트 범위의 양수여야 하며, 결과 키는 0(빈 슬롯)이 될 수 없다
+    public static long pack(long userId, long itemId) {
+        if (!packable(userId, itemId)) {
+            throw new IllegalArgumentException("id out of range: userId=" + userId + ", itemId=" + itemId);
+        }
+        return (userId << 32) | itemId;
+    }
+
+    // 현재 수량 + units 가 limit 이하일 때만 더한다
+    public boolean tryAcquire(long key, int units, int limit) {
+        int slot = slotOf(key, true);
+        if (slot < 0) {
+            AtomicInteger counter = overflow.computeIfAbsent(key, ignored -> new AtomicInteger());
+            int current;
+            do {
+                current = counter.get();
+                if (current + units > limit) {
+                    return false;
+                }
+            } while (!counter.compareAndSet(current, current + units));
+            return true;
+        }
+        int current;
+        do {
+            current = this.units.get(slot);
+            if (current + units > limit) {
+                return false;
+            }
+        } while (!this.units.compareAndSet(slot, current, current + units));
+        return true;
+    }
+
+    public void release(long key, int units) {
+        int slot = slotOf(key, false);
+        if (slot < 0) {
+            AtomicInteger counter = overflow.get(key);
+            if (counter != null) {
+                counter.updateAndGet(current -> Math.max(0, current - units));
+            }
+            return;
+        }
+        int current;
+        do {
+            current = this.units.get(slot);
+        } while (!this.units.compareAndSet(slot, current, Math.max(0, current - units)));
+    }
+
+    // 콜드 스타트 시 DB에 이미 있는 구매 수량을 반영
+    public void add(long key, int units) {
+        int slot = slotOf(key, true);
+        if (slot < 0) {
+            overflow.computeIfAbsent(key, ignored -> new AtomicInteger()).addAndGet(units);
+            return;
+        }
+        this.units.addAndGet(slot, units);
+    }
+
+    public int unitsOf(long key) {
+        int slot = slotOf(key, false);
+        if (slot < 0) {
+            AtomicInteger counter = overflow.get(key);
+            return counter == null ? 0 : counter.get();
+        }
+        return units.get(slot);
+    }
+
+    // 키의 슬롯을 찾는다. insert 가 true 면 빈 슬롯을 선점하고, 찾지 못하면 -1
+    private int slotOf(long key, boolean insert) {
+        int index = mix(key) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            long current = keys.get(index);
+            if (current == key) {
+                return index;
+            }
+            if (current == EMPTY) {
+                if (!insert) {
+                    return -1;
+                }
+                if (keys.compareAndSet(index, EMPTY, key) || keys.get(index) == key) {
+                    return index;
+                }
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,58 @@
+package com.flash.order.domain;
+
+import lombok.Getter;
+
+// 비동기 구매 접수 번호: 워커가 처리를 끝내면 결과(주문 ID 또는 실패 사유)를 기록한다
+@Getter
+public class PurchaseTicket {
+    private final String id;
+    private final Long userId;
+    private final Long itemId;
+    private final Integer quantity;
+    private volatile TicketStatus status = TicketStatus.PENDING;
+    private volatile Long orderId;
+    private volatile String errorCode;
+    private volatile String errorMessage;
+    private volatile long finishedAt;
+
+    public PurchaseTicket(String id, Long userId, Long itemId, Integer quantity) {
+        this.id = id;
+        this.userId = userId;
+        this.itemId = itemId;
+        this.quantity = quantity;
+    }
+
+    public void complete(Long orderId, long now) {
+        this.orderId = orderId;
+        finish(TicketStatus.COMPLETED, now);
+    }
+
+    public void soldOut(String errorCode, String errorMessage, long now) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        finish(TicketStatus.SOLD_OUT, now);
+    }
+
+    public void fail(String errorCode, String errorMessage, long now) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        finish(TicketStatus.FAILED, now);
+    }
+
+    public boolean isFinished() {
+        return status != TicketStatus.PENDING;
+    }
+
+    // 결과 필드를 모두 쓴 뒤 상태를 바꿔 조회 측에서 일관된 값을 보도록 한다
+    private void finish(TicketStatus status, long now) {
+        this.finishedAt = now;
+        this.status = status;
+    }
+
+    public enum TicketStatus {
+        PENDING,    // 처리 대기
+        COMPLETED,  // 주문 생성 완료
+        SOLD_OUT,   // 재고 부족
+        FAILED      // 그 밖의 실패
+    }
+}
@@ -0,0 +1,44 @@
+package com.flash.order.dto;
+
+import com.flash.order.exception.OrderException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.Getter;
+
+// 주문 내역 키셋 페이지의 위치 (직전 페이지 마지막 행의 created_at, id)
+@Getter
+public final class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private OrderCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static OrderCursor after(OrderResponse order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    // 클라이언트에는 내용을 알 수 없는 문자열로 내려준다
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new OrderCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new OrderException.InvalidOrderCursorException();
+        }
+    }
+}
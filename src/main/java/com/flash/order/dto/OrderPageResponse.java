@@ -0,0 +1,16 @@
+package com.flash.order.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class OrderPageResponse {
+    private final List<OrderResponse> orders;
+    // 마지막 페이지면 null
+    private final String nextCursor;
+
+    public OrderPageResponse(List<OrderResponse> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+}
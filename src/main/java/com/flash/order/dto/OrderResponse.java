@@ -1,11 +1,15 @@
 package com.flash.order.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.flash.order.domain.Order;
 import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
 public class OrderResponse {
+    // 64비트 ID는 JavaScript 숫자 범위를 넘으므로 문자열로 내려준다
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long id;
     private final String itemName;
     private final Integer quantity;
@@ -23,12 +27,24 @@ public class OrderResponse {
         this.createdAt = createdAt;
     }
     
+    // JPQL 생성자 표현식용: 필요한 컬럼만 한 번의 조인으로 읽어 바로 응답을 만든다
+    public OrderResponse(Long id, String itemName, Integer quantity, Integer price,
+                         Order.OrderStatus status, LocalDateTime createdAt) {
+        this(id, itemName, quantity, price * quantity, status.name(), createdAt);
+    }
+    
+    // 트랜잭션 안에서 호출해야 한다 (order.getItem() 이 지연 로딩 프록시일 수 있음)
     public static OrderResponse from(Order order) {
+        return of(order, order.getItem().getName(), order.getItem().getPrice());
+    }
+    
+    // 상품을 따로 읽어 둔 경우 (상품 프록시를 초기화하지 않는다)
+    public static OrderResponse of(Order order, String itemName, Integer price) {
         return new OrderResponse(
             order.getId(),
-            order.getItem().getName(),
+            itemName,
             order.getQuantity(),
-            order.getItem().getPrice() * order.getQuantity(),
+            price * order.getQuantity(),
             order.getStatus().name(),
             order.getCreatedAt()
         );
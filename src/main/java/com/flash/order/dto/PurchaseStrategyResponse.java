@@ -0,0 +1,16 @@
+package com.flash.order.dto;
+
+import com.flash.order.service.StockReservationType;
+import java.util.Map;
+import lombok.Getter;
+
+@Getter
+public class PurchaseStrategyResponse {
+    private final StockReservationType defaultType;
+    private final Map<Long, StockReservationType> items;
+
+    public PurchaseStrategyResponse(StockReservationType defaultType, Map<Long, StockReservationType> items) {
+        this.defaultType = defaultType;
+        this.items = items;
+    }
+}
@@ -0,0 +1,38 @@
+package com.flash.order.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.flash.order.domain.PurchaseTicket;
+import lombok.Getter;
+
+@Getter
+public class PurchaseTicketResponse {
+    private final String ticketId;
+    private final String status;
+    // 64비트 ID는 JavaScript 숫자 범위를 넘으므로 문자열로 내려준다
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long orderId;
+    private final String errorCode;
+    private final String errorMessage;
+
+    private PurchaseTicketResponse(String ticketId, String status, Long orderId,
+                                   String errorCode, String errorMessage) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.orderId = orderId;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static PurchaseTicketResponse from(PurchaseTicket ticket) {
+        // 상태를 먼저 읽어야 완료 시점에 기록된 결과 필드를 함께 볼 수 있다
+        PurchaseTicket.TicketStatus status = ticket.getStatus();
+        return new PurchaseTicketResponse(
+            ticket.getId(),
+            status.name(),
+            ticket.getOrderId(),
+            ticket.getErrorCode(),
+            ticket.getErrorMessage()
+        );
+    }
+}
@@ -21,6 +21,48 @@ public class OrderException {
         }
     }
 
+    public static class PurchaseQueueFullException extends BaseException {
+        public PurchaseQueueFullException() {
+            super("구매 요청이 많아 잠시 후 다시 시도해주세요.", "PURCHASE_QUEUE_FULL");
+        }
+    }
+
+    public static class PurchaseTimeoutException extends BaseException {
+        public PurchaseTimeoutException() {
+            super("구매 처리 시간이 초과되었습니다. 주문 내역을 확인한 뒤 다시 시도해주세요.", "PURCHASE_TIMEOUT");
+        }
+    }
+
+    public static class PurchaseUnavailableException extends BaseException {
+        public PurchaseUnavailableException() {
+            super("구매 처리를 중단하는 중입니다. 잠시 후 다시 시도해주세요.", "PURCHASE_UNAVAILABLE");
+        }
+    }
+
+    public static class PurchaseThrottledException extends BaseException {
+        public PurchaseThrottledException() {
+            super("재고 반영이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", "PURCHASE_THROTTLED");
+        }
+    }
+
+    public static class PurchaseConflictException extends BaseException {
+        public PurchaseConflictException() {
+            super("동시 구매 요청이 많아 주문에 실패했습니다. 다시 시도해주세요.", "PURCHASE_CONFLICT");
+        }
+    }
+
+    public static class PurchaseTicketNotFoundException extends BaseException {
+        public PurchaseTicketNotFoundException() {
+            super("구매 접수 번호를 찾을 수 없습니다.", "PURCHASE_TICKET_NOT_FOUND");
+        }
+    }
+
+    public static class InvalidOrderCursorException extends BaseException {
+        public InvalidOrderCursorException() {
+            super("잘못된 주문 내역 커서입니다.", "INVALID_ORDER_CURSOR");
+        }
+    }
+
     public OrderException() {
     }
 } 
\ No newline at end of file
@@ -1,11 +1,40 @@
 package com.flash.order.repository;
 
 import com.flash.order.domain.Order;
+import com.flash.order.dto.OrderResponse;
 import com.flash.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserId(Long userId);
+
+    // 결제 금액 계산에 상품 가격이 필요하므로 주문과 상품을 한 번에 읽는다
+    @Query("select o from Order o join fetch o.item where o.id = :id")
+    Optional<Order> findWithItemById(@Param("id") Long id);
+
+    // 주문마다 상품을 지연 로딩하지 않도록 응답에 필요한 컬럼만 조인 한 번으로 조회 (최신순 키셋 페이지)
+    @Query("select new com.flash.order.dto.OrderResponse(o.id, i.name, o.quantity, i.price, o.status, o.createdAt) "
+        + "from Order o join o.item i where o.user.id = :userId "
+        + "order by o.createdAt desc, o.id desc")
+    List<OrderResponse> findOrderPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.flash.order.dto.OrderResponse(o.id, i.name, o.quantity, i.price, o.status, o.createdAt) "
+        + "from Order o join o.item i where o.user.id = :userId "
+        + "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) "
+        + "order by o.createdAt desc, o.id desc")
+    List<OrderResponse> findOrderPageAfter(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
     boolean existsByUserAndItemId(User user, Long itemId);
-} 
\ No newline at end of file
+
+    @Query("select o.user.id as userId, sum(o.quantity) as units from Order o where o.item.id = :itemId group by o.user.id")
+    List<UserPurchaseUnits> sumQuantityByUserForItem(@Param("itemId") Long itemId);
+}
@@ -0,0 +1,7 @@
+package com.flash.order.repository;
+
+// 상품 하나에 대한 사용자별 누적 구매 수량
+public interface UserPurchaseUnits {
+    Long getUserId();
+    Long getUnits();
+}
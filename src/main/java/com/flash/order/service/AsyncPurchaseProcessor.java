@@ -0,0 +1,174 @@
+package com.flash.order.service;
+
+import com.flash.common.db.ReadYourWritesWindow;
+import com.flash.common.exception.BaseException;
+import com.flash.item.exception.ItemException;
+import com.flash.order.domain.PurchaseTicket;
+import com.flash.order.dto.OrderResponse;
+import com.flash.order.exception.OrderException;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 비동기 구매: HTTP 스레드는 접수 번호만 받아 바로 반환하고, 고정된 수의 워커가 큐를 비우며 주문을 처리한다.
+// 동시에 열리는 DB 트랜잭션 수는 클라이언트 수와 무관하게 워커 수로 제한된다.
+@Slf4j
+@Component
+public class AsyncPurchaseProcessor {
+
+    private final StockReservationStrategySelector strategySelector;
+    private final PurchaseQuotaGuard purchaseQuotaGuard;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final ArrayBlockingQueue<PurchaseJob> queue;
+    private final ConcurrentHashMap<String, PurchaseTicket> tickets = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final long ticketTtlMillis;
+    private volatile boolean running = true;
+
+    public AsyncPurchaseProcessor(StockReservationStrategySelector strategySelector,
+                                  PurchaseQuotaGuard purchaseQuotaGuard,
+                                  ReadYourWritesWindow readYourWritesWindow,
+                                  @Value("${flash.purchase.async.workers:8}") int workerCount,
+                                  @Value("${flash.purchase.async.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${flash.purchase.async.ticket-ttl-seconds:300}") long ticketTtlSeconds) {
+        this.strategySelector = strategySelector;
+        this.purchaseQuotaGuard = purchaseQuotaGuard;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.ticketTtlMillis = ticketTtlSeconds * 1000;
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "purchase-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    public PurchaseTicket submit(Long userId, Long itemId, Integer quantity) {
+        return submit(userId, itemId, quantity, () -> { });
+    }
+
+    // onFailure: 접수 거절 또는 처리 실패 시 호출자가 잡아 둔 자원(입장 번호 등)을 되돌리는 작업
+    public PurchaseTicket submit(Long userId, Long itemId, Integer quantity, Runnable onFailure) {
+        if (!running) {
+            onFailure.run();
+            throw new OrderException.PurchaseUnavailableException();
+        }
+        try {
+            purchaseQuotaGuard.acquire(userId, itemId, quantity);
+        } catch (RuntimeException e) {
+            onFailure.run();
+            throw e;
+        }
+
+        PurchaseTicket ticket = new PurchaseTicket(UUID.randomUUID().toString(), userId, itemId, quantity);
+        tickets.put(ticket.getId(), ticket);
+
+        // 큐가 가득 차면 기다리지 않고 즉시 거절
+        if (!queue.offer(new PurchaseJob(ticket, onFailure))) {
+            tickets.remove(ticket.getId());
+            purchaseQuotaGuard.release(userId, itemId, quantity);
+            onFailure.run();
+            throw new OrderException.PurchaseQueueFullException();
+        }
+        if (!running) {
+            // 종료 중에 들어온 작업이 큐에 남지 않게 한다
+            failPending();
+        }
+        return ticket;
+    }
+
+    public PurchaseTicket getTicket(String ticketId) {
+        PurchaseTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new OrderException.PurchaseTicketNotFoundException();
+        }
+        return ticket;
+    }
+
+    // 처리가 끝난 지 오래된 접수 번호 정리
+    @Scheduled(fixedDelayString = "${flash.purchase.async.cleanup-interval-ms:60000}")
+    public void expireTickets() {
+        long threshold = System.currentTimeMillis() - ticketTtlMillis;
+        tickets.values().removeIf(ticket -> ticket.isFinished() && ticket.getFinishedAt() < threshold);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.shutdown();
+        try {
+            // 처리 중인 작업은 마저 끝내게 잠시 기다린다
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 큐에 남은 작업은 실패로 끝내고 잡아 둔 구매 수량과 입장 번호를 돌려준다
+        failPending();
+    }
+
+    private void failPending() {
+        List<PurchaseJob> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (PurchaseJob job : pending) {
+            PurchaseTicket ticket = job.ticket();
+            OrderException.PurchaseUnavailableException e = new OrderException.PurchaseUnavailableException();
+            purchaseQuotaGuard.release(ticket.getUserId(), ticket.getItemId(), ticket.getQuantity());
+            job.onFailure().run();
+            ticket.fail(e.getCode(), e.getMessage(), System.currentTimeMillis());
+        }
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                PurchaseJob job = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (job != null) {
+                    process(job.ticket(), job.onFailure());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void process(PurchaseTicket ticket, Runnable onFailure) {
+        Long userId = ticket.getUserId();
+        Long itemId = ticket.getItemId();
+        Integer quantity = ticket.getQuantity();
+        try {
+            OrderResponse order = strategySelector.resolve(itemId).purchase(userId, itemId, quantity);
+            readYourWritesWindow.recordWrite(userId);
+            ticket.complete(order.getId(), System.currentTimeMillis());
+        } catch (ItemException.OutOfStockException | ItemException.SoldOutException e) {
+            purchaseQuotaGuard.release(userId, itemId, quantity);
+            onFailure.run();
+            ticket.soldOut(e.getCode(), e.getMessage(), System.currentTimeMillis());
+        } catch (BaseException e) {
+            purchaseQuotaGuard.release(userId, itemId, quantity);
+            onFailure.run();
+            ticket.fail(e.getCode(), e.getMessage(), System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("비동기 구매 처리 실패: ticketId={}, itemId={}", ticket.getId(), itemId, e);
+            purchaseQuotaGuard.release(userId, itemId, quantity);
+            onFailure.run();
+            ticket.fail("PURCHASE_FAILED", "구매 처리 중 오류가 발생했습니다.", System.currentTimeMillis());
+        }
+    }
+
+    private record PurchaseJob(PurchaseTicket ticket, Runnable onFailure) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.flash.order.service;
+
+import com.flash.item.domain.Item;
+import com.flash.item.exception.ItemException;
+import com.flash.item.repository.ItemRepository;
+import com.flash.item.service.LiveStockBoard;
+import com.flash.item.service.SaleLifecycleScheduler;
+import com.flash.item.service.SoldOutRegistry;
+import com.flash.order.domain.Order;
+import com.flash.order.dto.OrderResponse;
+import com.flash.order.exception.OrderException;
+import com.flash.order.repository.OrderRepository;
+import com.flash.user.domain.User;
+import com.flash.user.exception.UserException;
+import com.flash.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 구매 요청을 상품 ID로 고정 개수의 레인(링 버퍼 + 소비자 스레드 하나)에 나눠 담고, 소비자가 꺼낸 묶음을
+// 상품별로 나눠 락 획득 1회 + 재고 차감 1회 + 주문 일괄 INSERT를 한 트랜잭션에서 처리한 뒤 대기 중인 요청을 완료한다.
+// 레인 수가 고정이므로 요청에 들어온 상품 ID 종류와 관계없이 스레드와 버퍼 메모리는 늘지 않는다.
+@Slf4j
+@Component
+public class GroupCommitPurchaseProcessor {
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final OrderRepository orderRepository;
+    private final SoldOutRegistry soldOutRegistry;
+    private final LiveStockBoard liveStockBoard;
+    private final SaleLifecycleScheduler saleLifecycleScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long timeoutMillis;
+
+    private final PurchaseLane[] lanes;
+    private final ExecutorService consumers;
+    private volatile boolean closed;
+
+    public GroupCommitPurchaseProcessor(UserRepository userRepository,
+                                        ItemRepository itemRepository,
+                                        OrderRepository orderRepository,
+                                        SoldOutRegistry soldOutRegistry,
+                                        LiveStockBoard liveStockBoard,
+                                        SaleLifecycleScheduler saleLifecycleScheduler,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${flash.purchase.group-commit.lanes:8}") int laneCount,
+                                        @Value("${flash.purchase.group-commit.buffer-size:1024}") int bufferSize,
+                                        @Value("${flash.purchase.group-commit.batch-size:64}") int batchSize,
+                                        @Value("${flash.purchase.group-commit.timeout-ms:5000}") long timeoutMillis) {
+        this.userRepository = userRepository;
+        this.itemRepository = itemRepository;
+        this.orderRepository = orderRepository;
+        this.soldOutRegistry = soldOutRegistry;
+        this.liveStockBoard = liveStockBoard;
+        this.saleLifecycleScheduler = saleLifecycleScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+
+        this.lanes = new PurchaseLane[laneCount];
+        this.consumers = Executors.newFixedThreadPool(laneCount, runnable -> {
+            Thread thread = new Thread(runnable, "purchase-lane");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < laneCount; i++) {
+            PurchaseLane lane = new PurchaseLane(new ArrayBlockingQueue<>(bufferSize));
+            lanes[i] = lane;
+            consumers.execute(() -> consume(lane));
+        }
+    }
+
+    public CompletableFuture<OrderResponse> submit(Long userId, Long itemId, int quantity) {
+        // 판매 중인 상품만 버퍼에 넣는다 (존재하지 않는 상품 ID로 버퍼를 채우지 못하게)
+        if (!saleLifecycleScheduler.isOnSale(itemId)) {
+            return CompletableFuture.failedFuture(new ItemException.ItemNotOnSaleException());
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new OrderException.PurchaseUnavailableException());
+        }
+
+        PurchaseRequest request = new PurchaseRequest(userId, itemId, quantity);
+        // 소비자가 늦어도 호출자는 제한 시간 안에 응답을 받는다.
+        // 레인이 먼저 가져간 요청은 시간이 지나도 묶음 결과로 완료한다 (커밋된 주문을 시간 초과로 알리지 않게)
+        CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS)
+            .execute(() -> request.expire(new TimeoutException()));
+        PurchaseLane lane = lanes[Math.floorMod(itemId.hashCode(), lanes.length)];
+
+        // 버퍼가 가득 차면 기다리지 않고 즉시 거절
+        if (!lane.queue.offer(request)) {
+            request.expire(new OrderException.PurchaseQueueFullException());
+        } else if (closed) {
+            // 종료 중에 들어온 요청이 버퍼에 남지 않게 한다
+            failPending(lane);
+        }
+        return request.future;
+    }
+
+    public OrderResponse purchase(Long userId, Long itemId, int quantity) {
+        try {
+            return submit(userId, itemId, quantity).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new OrderException.PurchaseTimeoutException();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        for (PurchaseLane lane : lanes) {
+            lane.running = false;
+        }
+        consumers.shutdown();
+        try {
+            // 처리 중인 묶음은 마저 끝내게 잠시 기다린다
+            consumers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 버퍼에 남은 요청은 실패로 완료해 호출자가 기다리지 않게 한다
+        for (PurchaseLane lane : lanes) {
+            failPending(lane);
+        }
+    }
+
+    private void failPending(PurchaseLane lane) {
+        List<PurchaseRequest> pending = new ArrayList<>();
+        lane.queue.drainTo(pending);
+        pending.forEach(request -> request.expire(new OrderException.PurchaseUnavailableException()));
+    }
+
+    private void consume(PurchaseLane lane) {
+        List<PurchaseRequest> batch = new ArrayList<>(batchSize);
+        while (lane.running) {
+            try {
+                PurchaseRequest first = lane.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                lane.queue.drainTo(batch, batchSize - 1);
+                // 같은 레인을 쓰는 상품끼리 섞여 있으므로 상품별로 나눠 커밋
+                Map<Long, List<PurchaseRequest>> byItem = batch.stream()
+                    .collect(Collectors.groupingBy(request -> request.itemId, LinkedHashMap::new, Collectors.toList()));
+                byItem.forEach(this::commit);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("구매 묶음 처리 실패", e);
+                batch.forEach(request -> request.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(Long itemId, List<PurchaseRequest> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> allocate(itemId, batch));
+        } catch (RuntimeException e) {
+            // 트랜잭션이 실패하면 이번 묶음에서 주문이 배정된 요청도 모두 실패 처리
+            batch.forEach(request -> {
+                if (request.failure == null) {
+                    request.failure = e;
+                }
+            });
+        }
+
+        // 커밋(또는 롤백)이 끝난 뒤에 대기 중인 호출자를 깨운다
+        for (PurchaseRequest request : batch) {
+            if (request.failure != null) {
+                request.future.completeExceptionally(request.failure);
+            } else {
+                request.future.complete(request.response);
+            }
+        }
+    }
+
+    private void allocate(Long itemId, List<PurchaseRequest> batch) {
+        // 묶음 전체에 대해 락은 한 번만 획득
+        Item item = itemRepository.findByIdWithPessimisticLock(itemId).orElse(null);
+        if (item == null) {
+            batch.forEach(request -> request.failure = new ItemException.ItemNotFoundException());
+            return;
+        }
+
+        Map<Long, User> users = userRepository.findAllById(
+                batch.stream().map(request -> request.userId).distinct().collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        int remaining = item.getStock();
+        List<Order> orders = new ArrayList<>(batch.size());
+        for (PurchaseRequest request : batch) {
+            // 제한 시간이 지나 호출자가 이미 실패 응답을 받은 요청은 배정하지 않는다.
+            // 여기서 가져간 요청은 이후 타이머가 울려도 시간 초과로 끝나지 않는다
+            if (!request.claim()) {
+                continue;
+            }
+            User user = users.get(request.userId);
+            if (user == null) {
+                request.failure = new UserException.UserNotFoundException();
+                continue;
+            }
+            if (request.quantity > remaining) {
+                request.failure = new ItemException.OutOfStockException();
+                continue;
+            }
+            remaining -= request.quantity;
+            request.order = Order.builder()
+                .user(user)
+                .item(item)
+                .quantity(request.quantity)
+                .build();
+            orders.add(request.order);
+        }
+
+        if (remaining == 0) {
+            soldOutRegistry.markSoldOutAfterCommit(itemId);
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        // 재고 차감 1회 + 주문 일괄 INSERT
+        int allocated = item.getStock() - remaining;
+        item.decreaseStockV3(allocated);
+        liveStockBoard.decreaseAfterCommit(itemId, allocated);
+        orderRepository.saveAll(orders);
+        // 응답은 커밋 전에 트랜잭션 안에서 만들어 둔다
+        for (PurchaseRequest request : batch) {
+            if (request.order != null) {
+                request.response = OrderResponse.from(request.order);
+            }
+        }
+    }
+
+    private static final class PurchaseLane {
+        private final ArrayBlockingQueue<PurchaseRequest> queue;
+        private volatile boolean running = true;
+
+        private PurchaseLane(ArrayBlockingQueue<PurchaseRequest> queue) {
+            this.queue = queue;
+        }
+    }
+
+    private static final class PurchaseRequest {
+        private static final int PENDING = 0;
+        private static final int CLAIMED = 1;
+        private static final int EXPIRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final Long userId;
+        private final Long itemId;
+        private final int quantity;
+        private final CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+        private Order order;
+        private OrderResponse response;
+        private RuntimeException failure;
+
+        private PurchaseRequest(Long userId, Long itemId, int quantity) {
+            this.userId = userId;
+            this.itemId = itemId;
+            this.quantity = quantity;
+        }
+
+        // 레인이 배정하기 전에 가져간다 (타이머나 거절이 먼저 끝냈으면 실패)
+        private boolean claim() {
+            return state.compareAndSet(PENDING, CLAIMED);
+        }
+
+        // 레인이 아직 가져가지 않은 요청만 실패로 끝낸다
+        private void expire(Throwable cause) {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+}
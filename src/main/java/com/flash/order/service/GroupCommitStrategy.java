@@ -0,0 +1,22 @@
+package com.flash.order.service;
+
+import com.flash.order.dto.OrderResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GroupCommitStrategy implements StockReservationStrategy {
+
+    private final GroupCommitPurchaseProcessor groupCommitPurchaseProcessor;
+
+    @Override
+    public StockReservationType type() {
+        return StockReservationType.GROUP_COMMIT;
+    }
+
+    @Override
+    public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+        return groupCommitPurchaseProcessor.purchase(userId, itemId, quantity);
+    }
+}
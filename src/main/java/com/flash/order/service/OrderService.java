@@ -1,14 +1,13 @@
 package com.flash.order.service;
 
-import com.flash.order.domain.Order;
+import com.flash.order.dto.OrderPageResponse;
 import com.flash.order.dto.OrderResponse;
-import com.flash.user.domain.User;
-import java.util.List;
 
 public interface OrderService {
-    Order createOrder(Long userId, Long itemId, Integer quantity);
-    Order createOrderV2(Long userId, Long itemId, Integer quantity);
-    Order createOrderV3(Long userId, Long itemId, Integer quantity);
-    List<OrderResponse> getOrdersByUserId(Long userId);
-    Order getOrder(Long orderId);
+    OrderResponse createOrder(Long userId, Long itemId, Integer quantity);
+    OrderResponse createOrderV3(Long userId, Long itemId, Integer quantity);
+    OrderResponse createOrderV4(Long userId, Long itemId, Integer quantity);
+    OrderResponse createOrderV5(Long userId, Long itemId, Integer quantity);
+    OrderResponse createOrderV6(Long userId, Long itemId, Integer quantity);
+    OrderPageResponse getOrdersByUserId(Long userId, String cursor, Integer size);
 } 
\ No newline at end of file
@@ -1,34 +1,73 @@
 package com.flash.order.service;
 
+import com.flash.common.db.Bulkhead;
+import com.flash.common.db.BulkheadType;
 import com.flash.item.domain.Item;
 import com.flash.item.exception.ItemException;
 import com.flash.item.repository.ItemRepository;
+import com.flash.item.repository.ItemSummary;
+import com.flash.item.service.LiveStockBoard;
+import com.flash.item.service.SoldOutRegistry;
+import com.flash.item.service.StockLedger;
+import com.flash.item.service.StockWriteBehind;
 import com.flash.order.domain.Order;
 import com.flash.order.domain.Order.OrderStatus;
+import com.flash.order.dto.OrderCursor;
+import com.flash.order.dto.OrderPageResponse;
 import com.flash.order.dto.OrderResponse;
 import com.flash.order.exception.OrderException;
 import com.flash.order.repository.OrderRepository;
 import com.flash.user.domain.User;
 import com.flash.user.exception.UserException;
 import com.flash.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Bulkhead(BulkheadType.PURCHASE)
 public class OrderServiceImpl implements OrderService {
     
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final StockLedger stockLedger;
+    private final StockWriteBehind stockWriteBehind;
+    private final SoldOutRegistry soldOutRegistry;
+    private final LiveStockBoard liveStockBoard;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${flash.purchase.optimistic.max-attempts:5}")
+    private int optimisticMaxAttempts = 5;
+    
+    @Value("${flash.purchase.optimistic.base-backoff-ms:5}")
+    private long optimisticBaseBackoffMs = 5;
+    
+    @Value("${flash.purchase.optimistic.max-backoff-ms:100}")
+    private long optimisticMaxBackoffMs = 100;
+    
+    @Value("${flash.order.history.default-page-size:20}")
+    private int defaultPageSize = 20;
+    
+    @Value("${flash.order.history.max-page-size:100}")
+    private int maxPageSize = 100;
     
     @Override
     @Transactional
-    public Order createOrder(Long userId, Long itemId, Integer quantity) {
+    public OrderResponse createOrder(Long userId, Long itemId, Integer quantity) {
         // 사용자 조회
         User user = userRepository.findById(userId)
             .orElseThrow(UserException.UserNotFoundException::new);
@@ -54,20 +93,24 @@ public class OrderServiceImpl implements OrderService {
         // 재고 차감
         item.decreaseStock(quantity);
         itemRepository.save(item);
+        liveStockBoard.decreaseAfterCommit(itemId, quantity);
         
-        return order;
+        return OrderResponse.from(order);
     }
     
     @Override
     @Transactional
-    public Order createOrderV2(Long userId, Long itemId, Integer quantity) {
+    public OrderResponse createOrderV3(Long userId, Long itemId, Integer quantity) {
         // 사용자 조회
         User user = userRepository.findById(userId)
             .orElseThrow(UserException.UserNotFoundException::new);
             
-        // 상품 조회
-        Item item = itemRepository.findById(itemId)
+        // Pessimistic Lock을 사용하여 상품 조회
+        Item item = itemRepository.findByIdWithPessimisticLock(itemId)
             .orElseThrow(ItemException.ItemNotFoundException::new);
+        
+        // 주문 INSERT 전에 재고를 확인하여 롤백될 작업을 만들지 않음
+        checkStock(item, quantity);
             
         // 주문 생성
         Order order = Order.builder()
@@ -78,24 +121,37 @@ public class OrderServiceImpl implements OrderService {
             
         order = orderRepository.save(order);
         
-        // AtomicInteger를 사용한 재고 차감
-        item.decreaseStockV2(quantity);
+        // 재고 차감
+        item.decreaseStockV3(quantity);
         itemRepository.save(item);
+        liveStockBoard.decreaseAfterCommit(itemId, quantity);
+        markSoldOutIfEmpty(item);
         
-        return order;
+        return OrderResponse.from(order);
     }
     
     @Override
     @Transactional
-    public Order createOrderV3(Long userId, Long itemId, Integer quantity) {
+    public OrderResponse createOrderV4(Long userId, Long itemId, Integer quantity) {
+        // DB 반영이 계속 실패해 차감분이 쌓였으면 더 받지 않는다 (반영되지 않은 판매가 무한히 늘지 않게)
+        if (stockWriteBehind.isBacklogged()) {
+            throw new OrderException.PurchaseThrottledException();
+        }
+        // 메모리 원장에서 재고 선점 (실패 시 DB 접근 없이 탈락)
+        if (!stockLedger.tryReserve(itemId, quantity)) {
+            throw new ItemException.OutOfStockException();
+        }
+        stockLedger.releaseOnRollback(itemId, quantity);
+        
         // 사용자 조회
         User user = userRepository.findById(userId)
             .orElseThrow(UserException.UserNotFoundException::new);
             
-        // Pessimistic Lock을 사용하여 상품 조회
-        Item item = itemRepository.findByIdWithPessimisticLock(itemId)
+        // 선점에 성공했으므로 상품은 락 없이 참조만 사용 (응답에 필요한 이름/가격만 따로 조회)
+        Item item = itemRepository.getReferenceById(itemId);
+        ItemSummary summary = itemRepository.findSummaryById(itemId)
             .orElseThrow(ItemException.ItemNotFoundException::new);
-            
+        
         // 주문 생성
         Order order = Order.builder()
             .user(user)
@@ -105,26 +161,146 @@ public class OrderServiceImpl implements OrderService {
             
         order = orderRepository.save(order);
         
-        // 재고 차감
-        item.decreaseStockV3(quantity);
-        itemRepository.save(item);
+        // 재고 차감은 커밋 후 모아서 일괄 반영 (원장이 초과 판매를 막음)
+        stockWriteBehind.recordAfterCommit(itemId, quantity);
+        liveStockBoard.decreaseAfterCommit(itemId, quantity);
         
-        return order;
+        return OrderResponse.of(order, summary.getName(), summary.getPrice());
     }
     
     @Override
-    @Transactional(readOnly = true)
-    public List<OrderResponse> getOrdersByUserId(Long userId) {
-        List<Order> orders = orderRepository.findByUserId(userId);
-        return orders.stream()
-            .map(OrderResponse::from)
-            .collect(Collectors.toList());
+    @Transactional
+    public OrderResponse createOrderV5(Long userId, Long itemId, Integer quantity) {
+        // 사용자 조회 (재고 행 락을 잡기 전에 수행)
+        User user = userRepository.findById(userId)
+            .orElseThrow(UserException.UserNotFoundException::new);
+        // 응답에 쓸 상품 이름/가격도 락을 잡기 전에 읽어 둔다 (영속성 컨텍스트에 올리지 않는 projection)
+        ItemSummary summary = itemRepository.findSummaryById(itemId)
+            .orElseThrow(ItemException.ItemNotFoundException::new);
+        
+        // 조건부 UPDATE 한 번으로 재고 확인과 차감을 함께 처리
+        if (itemRepository.decreaseStockIfAvailable(itemId, quantity) == 0) {
+            Item item = itemRepository.findById(itemId)
+                .orElseThrow(ItemException.ItemNotFoundException::new);
+            if (item.getStock() == 0) {
+                soldOutRegistry.markSoldOut(itemId);
+            }
+            throw new ItemException.OutOfStockException();
+        }
+        
+        // 주문 생성 (INSERT는 커밋 시점 flush에 함께 나가므로 락 보유 구간은 UPDATE ~ COMMIT)
+        Order order = Order.builder()
+            .user(user)
+            .item(itemRepository.getReferenceById(itemId))
+            .quantity(quantity)
+            .build();
+        
+        liveStockBoard.decreaseAfterCommit(itemId, quantity);
+        return OrderResponse.of(orderRepository.save(order), summary.getName(), summary.getPrice());
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderResponse createOrderV6(Long userId, Long itemId, Integer quantity) {
+        long startedAt = System.nanoTime();
+        int attempt = 0;
+        
+        while (true) {
+            try {
+                // 시도마다 새 트랜잭션에서 버전 검증 (충돌 시 커밋 단계에서 예외 발생)
+                OrderResponse order = transactionTemplate.execute(status -> purchaseOptimistically(userId, itemId, quantity));
+                if (attempt > 0) {
+                    meterRegistry.timer("flash.purchase.optimistic.retry.latency")
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+                return order;
+            } catch (OptimisticLockingFailureException e) {
+                attempt++;
+                meterRegistry.counter("flash.purchase.optimistic.retries").increment();
+                if (attempt >= optimisticMaxAttempts) {
+                    meterRegistry.counter("flash.purchase.optimistic.exhausted").increment();
+                    throw new OrderException.PurchaseConflictException();
+                }
+                backoff(attempt);
+            }
+        }
+    }
+    
+    private OrderResponse purchaseOptimistically(Long userId, Long itemId, Integer quantity) {
+        // 사용자 조회
+        User user = userRepository.findById(userId)
+            .orElseThrow(UserException.UserNotFoundException::new);
+            
+        // 락 없이 상품 조회 (버전 포함)
+        Item item = itemRepository.findById(itemId)
+            .orElseThrow(ItemException.ItemNotFoundException::new);
+        
+        // 재고가 없다고 확인되면 재시도하지 않고 즉시 실패
+        checkStock(item, quantity);
+        
+        // 주문 생성
+        Order order = Order.builder()
+            .user(user)
+            .item(item)
+            .quantity(quantity)
+            .build();
+            
+        order = orderRepository.save(order);
+        
+        // 재고 차감 (커밋 시 version 조건으로 UPDATE)
+        item.decreaseStockV4(quantity);
+        liveStockBoard.decreaseAfterCommit(itemId, quantity);
+        markSoldOutIfEmpty(item);
+        
+        return OrderResponse.from(order);
+    }
+    
+    private void checkStock(Item item, Integer quantity) {
+        if (item.getStock() >= quantity) {
+            return;
+        }
+        // 재고가 0이면 이후 요청은 저장소 접근 없이 거절되도록 품절 등록
+        if (item.getStock() == 0) {
+            soldOutRegistry.markSoldOut(item.getId());
+        }
+        throw new ItemException.OutOfStockException();
+    }
+    
+    private void markSoldOutIfEmpty(Item item) {
+        if (item.getStock() == 0) {
+            soldOutRegistry.markSoldOutAfterCommit(item.getId());
+        }
+    }
+    
+    // 상한이 있는 지수 백오프 + full jitter
+    private void backoff(int attempt) {
+        long ceiling = Math.min(optimisticMaxBackoffMs, optimisticBaseBackoffMs << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderException.PurchaseConflictException();
+        }
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Order getOrder(Long orderId) {
-        return orderRepository.findById(orderId)
-            .orElseThrow(OrderException.OrderNotFoundException::new);
+    @Bulkhead(BulkheadType.CATALOG)
+    public OrderPageResponse getOrdersByUserId(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+        // 한 행을 더 읽어 다음 페이지가 있는지 판단
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<OrderResponse> orders;
+        if (cursor == null) {
+            orders = orderRepository.findOrderPage(userId, limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            orders = orderRepository.findOrderPageAfter(userId, after.getCreatedAt(), after.getId(), limit);
+        }
+        if (orders.size() <= pageSize) {
+            return new OrderPageResponse(orders, null);
+        }
+        List<OrderResponse> page = orders.subList(0, pageSize);
+        return new OrderPageResponse(page, OrderCursor.after(page.get(pageSize - 1)).encode());
     }
-} 
\ No newline at end of file
+}
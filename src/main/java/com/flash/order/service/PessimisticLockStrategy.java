@@ -0,0 +1,22 @@
+package com.flash.order.service;
+
+import com.flash.order.dto.OrderResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockStrategy implements StockReservationStrategy {
+
+    private final OrderService orderService;
+
+    @Override
+    public StockReservationType type() {
+        return StockReservationType.PESSIMISTIC;
+    }
+
+    @Override
+    public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+        return orderService.createOrderV3(userId, itemId, quantity);
+    }
+}
@@ -0,0 +1,97 @@
+package com.flash.order.service;
+
+import com.flash.order.domain.PurchaseQuotaTable;
+import com.flash.order.exception.OrderException;
+import com.flash.order.repository.OrderRepository;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 사용자별·상품별 구매 수량 제한: 락을 잡기 전에 메모리에서 확인하고,
+// DB는 상품을 처음 볼 때(재시작 직후 등) 기존 주문 수량을 적재하는 데만 사용한다.
+// 테이블은 한도가 켜져 있을 때만 만들고, 32비트 범위를 넘는 ID는 보조 맵에서 센다.
+@Component
+public class PurchaseQuotaGuard {
+
+    private final OrderRepository orderRepository;
+    private final int maxUnitsPerUser;
+    private final PurchaseQuotaTable table;
+    private final ConcurrentHashMap<QuotaKey, AtomicInteger> unpackable = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Boolean> loadedItems = new ConcurrentHashMap<>();
+
+    public PurchaseQuotaGuard(OrderRepository orderRepository,
+                              @Value("${flash.purchase.quota.max-units-per-user:0}") int maxUnitsPerUser,
+                              @Value("${flash.purchase.quota.table-capacity:1048576}") int tableCapacity) {
+        this.orderRepository = orderRepository;
+        this.maxUnitsPerUser = maxUnitsPerUser;
+        this.table = isEnabled() ? new PurchaseQuotaTable(tableCapacity) : null;
+    }
+
+    public void acquire(Long userId, Long itemId, int quantity) {
+        if (!isEnabled()) {
+            return;
+        }
+        loadIfAbsent(itemId);
+        if (!tryAcquire(userId, itemId, quantity)) {
+            throw new OrderException.DuplicateOrderException();
+        }
+    }
+
+    // 구매가 실패하면 확보했던 수량을 되돌린다
+    public void release(Long userId, Long itemId, int quantity) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (PurchaseQuotaTable.packable(userId, itemId)) {
+            table.release(PurchaseQuotaTable.pack(userId, itemId), quantity);
+            return;
+        }
+        AtomicInteger counter = unpackable.get(new QuotaKey(userId, itemId));
+        if (counter != null) {
+            counter.updateAndGet(current -> Math.max(0, current - quantity));
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxUnitsPerUser > 0;
+    }
+
+    // 같은 상품에 대한 동시 요청은 적재가 끝날 때까지 기다린다
+    private void loadIfAbsent(Long itemId) {
+        if (loadedItems.containsKey(itemId)) {
+            return;
+        }
+        loadedItems.computeIfAbsent(itemId, id -> {
+            orderRepository.sumQuantityByUserForItem(id).forEach(row ->
+                add(row.getUserId(), id, row.getUnits().intValue()));
+            return Boolean.TRUE;
+        });
+    }
+
+    private boolean tryAcquire(Long userId, Long itemId, int quantity) {
+        if (PurchaseQuotaTable.packable(userId, itemId)) {
+            return table.tryAcquire(PurchaseQuotaTable.pack(userId, itemId), quantity, maxUnitsPerUser);
+        }
+        AtomicInteger counter = unpackable.computeIfAbsent(new QuotaKey(userId, itemId), ignored -> new AtomicInteger());
+        int current;
+        do {
+            current = counter.get();
+            if (current + quantity > maxUnitsPerUser) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current + quantity));
+        return true;
+    }
+
+    private void add(Long userId, Long itemId, int units) {
+        if (PurchaseQuotaTable.packable(userId, itemId)) {
+            table.add(PurchaseQuotaTable.pack(userId, itemId), units);
+            return;
+        }
+        unpackable.computeIfAbsent(new QuotaKey(userId, itemId), ignored -> new AtomicInteger()).addAndGet(units);
+    }
+
+    private record QuotaKey(Long userId, Long itemId) {
+    }
+}
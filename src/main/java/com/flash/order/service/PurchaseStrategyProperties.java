@@ -0,0 +1,19 @@
+package com.flash.order.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flash.purchase.strategy")
+public class PurchaseStrategyProperties {
+
+    // 상품별 설정이 없을 때 사용할 구매 방식
+    private StockReservationType defaultType = StockReservationType.IN_MEMORY;
+
+    // 상품 ID별 구매 방식
+    private Map<Long, StockReservationType> items = new HashMap<>();
+}
@@ -0,0 +1,8 @@
+package com.flash.order.service;
+
+import com.flash.order.dto.OrderResponse;
+
+public interface StockReservationStrategy {
+    StockReservationType type();
+    OrderResponse purchase(Long userId, Long itemId, Integer quantity);
+}
@@ -0,0 +1,178 @@
+package com.flash.order.service;
+
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.service.SaleLifecycleListener;
+import com.flash.item.service.StockLedger;
+import com.flash.item.service.StockWriteBehind;
+import com.flash.order.dto.OrderResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.stereotype.Component;
+
+// 상품별(없으면 전역) 구매 방식을 골라 주고, 운영 중에도 재배포 없이 방식을 바꿀 수 있게 한다.
+// 방식을 바꿀 때는 새 구매를 잠시 멈추고 진행 중인 구매(커밋 후 차감분 기록까지)가 끝나길 기다린 뒤
+// 지연 반영분을 DB에 내리고 원장을 비운 다음에야 새 방식을 공개한다.
+// 그래야 DB 기반 방식이 아직 내려가지 않은 원장 차감분을 모른 채 재고를 읽는 일이 없다.
+@Component
+public class StockReservationStrategySelector implements SaleLifecycleListener {
+
+    private final Map<StockReservationType, StockReservationStrategy> strategies =
+        new EnumMap<>(StockReservationType.class);
+    private final Map<StockReservationType, StockReservationStrategy> gatedStrategies =
+        new EnumMap<>(StockReservationType.class);
+    private final ConcurrentHashMap<Long, StockReservationType> itemTypes = new ConcurrentHashMap<>();
+    private final StockLedger stockLedger;
+    private final StockWriteBehind stockWriteBehind;
+
+    // 진행 중인 구매 수 (구매마다 증감하므로 경합이 적은 LongAdder 사용)
+    private final LongAdder inFlight = new LongAdder();
+    private final Object resyncMonitor = new Object();
+    private volatile boolean resyncing;
+
+    private volatile StockReservationType defaultType;
+
+    public StockReservationStrategySelector(List<StockReservationStrategy> strategies,
+                                            PurchaseStrategyProperties properties,
+                                            StockLedger stockLedger,
+                                            StockWriteBehind stockWriteBehind) {
+        strategies.forEach(strategy -> {
+            this.strategies.put(strategy.type(), strategy);
+            this.gatedStrategies.put(strategy.type(), new GatedStrategy(strategy.type()));
+        });
+        this.defaultType = properties.getDefaultType();
+        this.itemTypes.putAll(properties.getItems());
+        this.stockLedger = stockLedger;
+        this.stockWriteBehind = stockWriteBehind;
+    }
+
+    public StockReservationStrategy resolve(Long itemId) {
+        return gatedStrategies.get(typeOf(itemId));
+    }
+
+    public StockReservationType typeOf(Long itemId) {
+        return itemTypes.getOrDefault(itemId, defaultType);
+    }
+
+    public StockReservationType getDefaultType() {
+        return defaultType;
+    }
+
+    public Map<Long, StockReservationType> getItemTypes() {
+        return Map.copyOf(itemTypes);
+    }
+
+    public synchronized void changeDefault(StockReservationType type) {
+        if (defaultType == type) {
+            return;
+        }
+        switchType(null, () -> defaultType = type);
+    }
+
+    public synchronized void change(Long itemId, StockReservationType type) {
+        if (typeOf(itemId) == type) {
+            itemTypes.put(itemId, type);
+            return;
+        }
+        switchType(itemId, () -> itemTypes.put(itemId, type));
+    }
+
+    public synchronized void reset(Long itemId) {
+        if (typeOf(itemId) == defaultType) {
+            itemTypes.remove(itemId);
+            return;
+        }
+        switchType(itemId, () -> itemTypes.remove(itemId));
+    }
+
+    // 메모리 원장을 쓰는 상품만 판매 시작 전에 원장을 미리 적재 (다른 방식이면 원장 값이 DB와 어긋난다)
+    @Override
+    public void beforeSaleStart(CatalogItem item) {
+        if (typeOf(item.getId()) == StockReservationType.IN_MEMORY) {
+            stockLedger.preload(item.getId());
+        }
+    }
+
+    // 새 구매를 막고, 진행 중인 구매가 끝나길 기다려 지연 반영 중인 차감분을 DB에 내리고 원장을 비운 뒤
+    // 마지막으로 새 방식을 공개한다 (메모리 원장은 다음 요청 때 DB 기준으로 다시 적재)
+    private void switchType(Long itemId, Runnable publish) {
+        resyncing = true;
+        try {
+            while (inFlight.sum() != 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            stockWriteBehind.flushNow();
+            if (itemId == null) {
+                stockLedger.evictAll();
+            } else {
+                stockLedger.evict(itemId);
+            }
+            publish.run();
+        } finally {
+            synchronized (resyncMonitor) {
+                resyncing = false;
+                resyncMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void enter() {
+        while (true) {
+            inFlight.increment();
+            if (!resyncing) {
+                return;
+            }
+            // 재동기화 중이면 물러났다가 끝난 뒤 다시 들어온다
+            inFlight.decrement();
+            synchronized (resyncMonitor) {
+                while (resyncing) {
+                    try {
+                        resyncMonitor.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("구매 방식 전환 대기 중 인터럽트", e);
+                    }
+                }
+            }
+        }
+    }
+
+    // 재동기화와 겹치지 않게 구매를 감싼다. 요청은 고른 방식 하나로만 처리하며,
+    // 고른 뒤 게이트를 통과하기 전에 방식이 바뀌었으면 물러나 새 방식으로 다시 들어온다
+    private final class GatedStrategy implements StockReservationStrategy {
+
+        private final StockReservationType type;
+
+        private GatedStrategy(StockReservationType type) {
+            this.type = type;
+        }
+
+        @Override
+        public StockReservationType type() {
+            return type;
+        }
+
+        @Override
+        public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+            StockReservationType resolved = type;
+            while (true) {
+                enter();
+                // 게이트 안에서는 전환이 진행 중인 구매를 기다리므로 방식이 바뀌지 않는다
+                StockReservationType current = typeOf(itemId);
+                if (current == resolved) {
+                    try {
+                        return strategies.get(resolved).purchase(userId, itemId, quantity);
+                    } finally {
+                        inFlight.decrement();
+                    }
+                }
+                inFlight.decrement();
+                resolved = current;
+            }
+        }
+    }
+}
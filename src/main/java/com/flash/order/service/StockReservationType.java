@@ -0,0 +1,9 @@
+package com.flash.order.service;
+
+public enum StockReservationType {
+    PESSIMISTIC,    // 비관적 락 (createOrderV3)
+    IN_MEMORY,      // 메모리 재고 원장 (createOrderV4)
+    ATOMIC_UPDATE,  // 조건부 UPDATE (createOrderV5)
+    OPTIMISTIC,     // 낙관적 락 + 재시도 (createOrderV6)
+    GROUP_COMMIT    // 상품별 링 버퍼 + 묶음 커밋
+}
@@ -1,10 +1,9 @@
 package com.flash.payment.controller;
 
-import com.flash.order.domain.Order;
-import com.flash.order.service.OrderService;
-import com.flash.payment.domain.Payment;
+import com.flash.common.idempotency.IdempotencyCache;
 import com.flash.payment.dto.PaymentResponse;
 import com.flash.payment.service.PaymentService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,18 +14,27 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
     
     private final PaymentService paymentService;
-    private final OrderService orderService;
+    private final IdempotencyCache idempotencyCache;
     
     @PostMapping
-    public ResponseEntity<PaymentResponse> createPayment(@RequestParam Long orderId) {
-        Order order = orderService.getOrder(orderId);
-        Payment payment = paymentService.createPayment(order);
-        return ResponseEntity.ok(PaymentResponse.from(payment));
+    public ResponseEntity<PaymentResponse> createPayment(
+        @RequestParam Long orderId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        // 결제 API에는 사용자 파라미터가 없으므로 대상 주문/결제 ID를 요청자 범위로 쓴다
+        PaymentResponse response = idempotencyCache.execute("payment", orderId, idempotencyKey, List.of(orderId),
+            () -> paymentService.createPayment(orderId));
+        return ResponseEntity.ok(response);
     }
     
     @PostMapping("/process")
-    public ResponseEntity<PaymentResponse> processPayment(@RequestParam Long paymentId) {
-        Payment payment = paymentService.processPayment(paymentId);
-        return ResponseEntity.ok(PaymentResponse.from(payment));
+    public ResponseEntity<PaymentResponse> processPayment(
+        @RequestParam Long paymentId,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        // 재전송된 결제 처리 요청은 DB 작업 없이 첫 결과를 돌려준다
+        PaymentResponse response = idempotencyCache.execute("payment-process", paymentId, idempotencyKey, List.of(paymentId),
+            () -> paymentService.processPayment(paymentId));
+        return ResponseEntity.ok(response);
     }
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.flash.payment.domain;
 
 import com.flash.order.domain.Order;
+import com.flash.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 public class Payment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
     
     @OneToOne(fetch = FetchType.LAZY)
@@ -1,12 +1,17 @@
 package com.flash.payment.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.flash.payment.domain.Payment;
 import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
 public class PaymentResponse {
+    // 64비트 ID는 JavaScript 숫자 범위를 넘으므로 문자열로 내려준다
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long id;
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long orderId;
     private final Integer amount;
     private final String status;
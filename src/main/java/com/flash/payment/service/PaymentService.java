@@ -1,9 +1,8 @@
 package com.flash.payment.service;
 
-import com.flash.payment.domain.Payment;
-import com.flash.order.domain.Order;
+import com.flash.payment.dto.PaymentResponse;
 
 public interface PaymentService {
-    Payment createPayment(Order order);
-    Payment processPayment(Long paymentId);
+    PaymentResponse createPayment(Long orderId);
+    PaymentResponse processPayment(Long paymentId);
 } 
\ No newline at end of file
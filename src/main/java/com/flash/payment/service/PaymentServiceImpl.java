@@ -1,8 +1,12 @@
 package com.flash.payment.service;
 
+import com.flash.common.db.Bulkhead;
+import com.flash.common.db.BulkheadType;
 import com.flash.order.domain.Order;
 import com.flash.order.exception.OrderException;
+import com.flash.order.repository.OrderRepository;
 import com.flash.payment.domain.Payment;
+import com.flash.payment.dto.PaymentResponse;
 import com.flash.payment.exception.PaymentException;
 import com.flash.payment.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,12 +16,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Bulkhead(BulkheadType.PAYMENT)
 public class PaymentServiceImpl implements PaymentService {
     
     private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
     
+    // 응답은 트랜잭션 안에서 만들어 컨트롤러에서 지연 로딩이 일어나지 않게 한다
     @Override
-    public Payment createPayment(Order order) {
+    public PaymentResponse createPayment(Long orderId) {
+        Order order = orderRepository.findWithItemById(orderId)
+            .orElseThrow(OrderException.OrderNotFoundException::new);
+
         // 주문 상태 확인
         if (order.getStatus() != Order.OrderStatus.PENDING) {
             throw new OrderException.InvalidOrderStatusException();
@@ -29,11 +39,11 @@ public class PaymentServiceImpl implements PaymentService {
             .amount(order.getTotalAmount())
             .build();
             
-        return paymentRepository.save(payment);
+        return PaymentResponse.from(paymentRepository.save(payment));
     }
     
     @Override
-    public Payment processPayment(Long paymentId) {
+    public PaymentResponse processPayment(Long paymentId) {
         Payment payment = paymentRepository.findById(paymentId)
             .orElseThrow(PaymentException.PaymentNotFoundException::new);
             
@@ -50,6 +60,6 @@ public class PaymentServiceImpl implements PaymentService {
             throw new PaymentException.PaymentProcessFailedException();
         }
         
-        return payment;
+        return PaymentResponse.from(payment);
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.flash.user.service;
 
+import com.flash.common.db.Bulkhead;
+import com.flash.common.db.BulkheadType;
 import com.flash.user.domain.User;
 import com.flash.user.exception.UserException;
 import com.flash.user.repository.UserRepository;
@@ -32,6 +34,7 @@ public class UserServiceImpl implements UserService {
     
     @Override
     @Transactional(readOnly = true)
+    @Bulkhead(BulkheadType.CATALOG)
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
             .orElseThrow(UserException.UserNotFoundException::new);
@@ -0,0 +1,147 @@
+package com.flash.admission.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WaitingRoomTest {
+
+    @Test
+    @DisplayName("입장 허용선이 올라가야 대기 번호가 입장 가능해지는지 테스트")
+    void admit_advancesPosition() {
+        // given
+        WaitingRoom room = new WaitingRoom(1L, 10);
+        AdmissionTicket first = room.issue(1L).orElseThrow();
+        room.issue(2L);
+        AdmissionTicket third = room.issue(3L).orElseThrow();
+
+        // when
+        long positionBefore = room.positionOf(third);
+        room.admit(2);
+
+        // then
+        assertAll(
+            () -> assertThat(positionBefore).isEqualTo(3),
+            () -> assertThat(room.isAdmitted(first)).isTrue(),
+            () -> assertThat(room.isAdmitted(third)).isFalse(),
+            () -> assertThat(room.positionOf(third)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 요청하면 기존 번호를 돌려주는지 테스트")
+    void issue_sameUser() {
+        // given
+        WaitingRoom room = new WaitingRoom(1L, 10);
+
+        // when
+        AdmissionTicket first = room.issue(1L).orElseThrow();
+        AdmissionTicket second = room.issue(1L).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("입장 번호는 허용된 뒤 한 번만 사용할 수 있는지 테스트")
+    void consume_onlyOnceAfterAdmitted() {
+        // given
+        WaitingRoom room = new WaitingRoom(1L, 10);
+        AdmissionTicket ticket = room.issue(1L).orElseThrow();
+
+        // when
+        boolean beforeAdmit = room.consume(ticket);
+        room.admit(1);
+        boolean firstUse = room.consume(ticket);
+        boolean secondUse = room.consume(ticket);
+
+        // then
+        assertAll(
+            () -> assertThat(beforeAdmit).isFalse(),
+            () -> assertThat(firstUse).isTrue(),
+            () -> assertThat(secondUse).isFalse(),
+            () -> assertThat(room.find(ticket.getToken())).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("구매 실패로 되돌린 번호는 다시 사용할 수 있고, 사용한 번호는 재발급 대상이 되는지 테스트")
+    void restore_afterFailedPurchase() {
+        // given
+        WaitingRoom room = new WaitingRoom(1L, 10);
+        AdmissionTicket ticket = room.issue(1L).orElseThrow();
+        room.admit(1);
+        room.consume(ticket);
+
+        // when
+        room.restore(ticket);
+        boolean retried = room.consume(ticket);
+        AdmissionTicket reissued = room.issue(1L).orElseThrow();
+
+        // then
+        assertAll(
+            () -> assertThat(retried).isTrue(),
+            () -> assertThat(reissued).isNotSameAs(ticket)
+        );
+    }
+
+    @Test
+    @DisplayName("입장 허용선은 발급된 번호를 넘지 않는지 테스트")
+    void admit_cappedByIssued() {
+        // given
+        WaitingRoom room = new WaitingRoom(1L, 10);
+        room.admit(5);
+
+        // when
+        AdmissionTicket ticket = room.issue(1L).orElseThrow();
+
+        // then
+        assertThat(room.isAdmitted(ticket)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 1000명이 요청해도 수용 인원만큼만 번호가 발급되는지 테스트")
+    void issue_concurrent_boundedByCapacity() throws InterruptedException {
+        // given
+        WaitingRoom room = new WaitingRoom(1L, 110);
+        int threadCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger issuedCount = new AtomicInteger(0);
+        AtomicInteger closedCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i;
+            executorService.submit(() -> {
+                try {
+                    Optional<AdmissionTicket> ticket = room.issue(userId);
+                    if (ticket.isPresent()) {
+                        issuedCount.incrementAndGet();
+                    } else {
+                        closedCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(issuedCount.get()).isEqualTo(110),
+            () -> assertThat(closedCount.get()).isEqualTo(890),
+            () -> assertThat(room.isClosed()).isTrue()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.flash.admission.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionExceptionTest {
+
+    @Test
+    @DisplayName("TicketNotFoundException 생성 시 올바른 메시지와 코드가 설정되는지 확인")
+    void createTicketNotFoundException() {
+        // when
+        AdmissionException.TicketNotFoundException exception =
+            new AdmissionException.TicketNotFoundException();
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("대기 번호를 찾을 수 없습니다.");
+        assertThat(exception.getCode()).isEqualTo("ADMISSION_TICKET_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("NotAdmittedException 생성 시 올바른 메시지와 코드가 설정되는지 확인")
+    void createNotAdmittedException() {
+        // when
+        AdmissionException.NotAdmittedException exception =
+            new AdmissionException.NotAdmittedException();
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("아직 입장 순서가 아닙니다. 대기 후 다시 시도해주세요.");
+        assertThat(exception.getCode()).isEqualTo("NOT_ADMITTED");
+    }
+}
@@ -0,0 +1,106 @@
+package com.flash.common.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class BulkheadAspectTest {
+
+    private final DataSource catalog = mock(DataSource.class);
+    private final DataSource purchase = mock(DataSource.class);
+    private final DataSource payment = mock(DataSource.class);
+
+    private BulkheadRoutingDataSource routing;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(catalog.getConnection()).thenReturn(mock(Connection.class, "catalog"));
+        when(purchase.getConnection()).thenReturn(mock(Connection.class, "purchase"));
+        when(payment.getConnection()).thenReturn(mock(Connection.class, "payment"));
+
+        routing = new BulkheadRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+            BulkheadType.CATALOG, catalog,
+            BulkheadType.PURCHASE, purchase,
+            BulkheadType.PAYMENT, payment
+        ));
+        routing.setDefaultTargetDataSource(purchase);
+        routing.afterPropertiesSet();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService(routing));
+        factory.addAspect(new BulkheadAspect());
+        service = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("메서드에 지정한 풀이 클래스에 지정한 풀보다 우선하는지 테스트")
+    void route_methodOverridesClass() throws Exception {
+        // when
+        Connection byClass = service.purchase();
+        Connection byMethod = service.catalog();
+
+        // then
+        assertThat(byClass.toString()).isEqualTo("purchase");
+        assertThat(byMethod.toString()).isEqualTo("catalog");
+        assertThat(BulkheadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("중첩 호출이 끝나면 바깥 호출의 풀로 되돌아가는지 테스트")
+    void route_restoresPrevious() throws Exception {
+        // given
+        BulkheadType previous = BulkheadContext.enter(BulkheadType.PAYMENT);
+
+        // when
+        Connection inner = service.catalog();
+        Connection outer = routing.getConnection();
+        BulkheadContext.restore(previous);
+
+        // then
+        assertThat(inner.toString()).isEqualTo("catalog");
+        assertThat(outer.toString()).isEqualTo("payment");
+        assertThat(BulkheadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("예외가 발생해도 풀 지정이 해제되는지 테스트")
+    void route_clearsOnException() {
+        // when & then
+        assertThatThrownBy(() -> service.fail())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(BulkheadContext.current()).isNull();
+    }
+
+    @Bulkhead(BulkheadType.PURCHASE)
+    static class SampleService {
+
+        private final DataSource dataSource;
+
+        SampleService(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public Connection purchase() throws Exception {
+            return dataSource.getConnection();
+        }
+
+        @Bulkhead(BulkheadType.CATALOG)
+        public Connection catalog() throws Exception {
+            return dataSource.getConnection();
+        }
+
+        public void fail() {
+            throw new IllegalStateException("실패");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.flash.common.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DbPermitDataSourceTest {
+
+    @Test
+    @DisplayName("permit이 모두 사용 중이면 제한 시간 후 예외가 발생하고, 닫으면 다시 얻을 수 있는지 테스트")
+    void getConnection_blocksUntilReleased() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        DbPermitDataSource dataSource = new DbPermitDataSource(target, 1, 50);
+
+        // when
+        Connection first = dataSource.getConnection();
+
+        // then
+        assertThatThrownBy(dataSource::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커넥션 획득에 실패하면 permit을 반환하는지 테스트")
+    void getConnection_releasesOnFailure() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("연결 실패"));
+        DbPermitDataSource dataSource = new DbPermitDataSource(target, 2, 50);
+
+        // when & then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 가상 스레드 1000개가 동시에 요청해도 동시 커넥션 수가 permit 수를 넘지 않는지 테스트")
+    void getConnection_concurrent_bounded() throws InterruptedException {
+        // given
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        DataSource target = mock(DataSource.class);
+        DbPermitDataSource dataSource = new DbPermitDataSource(target, 4, 60_000);
+        try {
+            when(target.getConnection()).thenAnswer(invocation -> {
+                maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                return mock(Connection.class);
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+
+        int taskCount = 1000;
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < taskCount; i++) {
+                executorService.submit(() -> {
+                    try (Connection ignored = dataSource.getConnection()) {
+                        Thread.sleep(1);
+                        inUse.decrementAndGet();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then
+        assertThat(maxInUse.get()).isLessThanOrEqualTo(4);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(4);
+    }
+}
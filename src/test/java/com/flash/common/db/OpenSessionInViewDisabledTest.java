@@ -0,0 +1,222 @@
+package com.flash.common.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flash.item.domain.Item;
+import com.flash.item.repository.ItemRepository;
+import com.flash.order.repository.OrderRepository;
+import com.flash.order.service.StockReservationStrategySelector;
+import com.flash.order.service.StockReservationType;
+import com.flash.payment.repository.PaymentRepository;
+import com.flash.user.domain.User;
+import com.flash.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.web.servlet.MockMvc;
+
+// open-in-view 가 꺼진 상태에서 실제 엔드포인트(/api/purchase, /api/payment, /api/orders)를 호출해
+// 서비스가 (트랜잭션을 커밋하고) 반환된 뒤에는 컨트롤러 처리와 응답 직렬화 중에 SQL 이 한 건도 나가지 않는지 확인한다
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:osiv;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never",
+    // 측정 중에 백그라운드 작업이 SQL 을 보내지 않도록 주기를 늘린다
+    "flash.stock.write-behind.interval-ms=3600000",
+    "flash.item.catalog.refresh-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@Import(OpenSessionInViewDisabledTest.ServiceReturnProbeConfig.class)
+class OpenSessionInViewDisabledTest {
+
+    @TestConfiguration
+    static class ServiceReturnProbeConfig {
+
+        @Bean
+        ServiceReturnProbe serviceReturnProbe(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+            return new ServiceReturnProbe(entityManagerFactory);
+        }
+    }
+
+    // 가장 바깥 advice 로 두어 트랜잭션 커밋까지 끝난 뒤의 SQL 실행 수를 기록한다
+    @Aspect
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class ServiceReturnProbe {
+
+        private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+        private final AtomicLong statementsAtReturn = new AtomicLong(-1);
+
+        ServiceReturnProbe(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        @AfterReturning("execution(* com.flash.order.service.OrderService.*(..)) "
+            + "|| execution(* com.flash.payment.service.PaymentService.*(..))")
+        public void recordReturn() {
+            statementsAtReturn.set(statistics().getPrepareStatementCount());
+        }
+
+        void reset() {
+            statementsAtReturn.set(-1);
+        }
+
+        long statementsAfterReturn() {
+            long atReturn = statementsAtReturn.get();
+            assertThat(atReturn).as("서비스가 호출되어야 한다").isNotNegative();
+            return statistics().getPrepareStatementCount() - atReturn;
+        }
+
+        private Statistics statistics() {
+            return entityManagerFactory.getObject().unwrap(SessionFactory.class).getStatistics();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ServiceReturnProbe probe;
+
+    @Autowired
+    private StockReservationStrategySelector strategySelector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    private Long userId;
+
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+            .email("buyer@example.com")
+            .password("password123")
+            .name("Buyer")
+            .build()).getId();
+        itemId = itemRepository.save(Item.builder()
+            .name("한정판 상품")
+            .description("설명")
+            .price(10000)
+            .stock(100)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 메모리 원장/지연 반영분을 DB에 내린 뒤 정리
+        strategySelector.changeDefault(StockReservationType.PESSIMISTIC);
+        paymentRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("open-in-view 설정이 꺼져 있는지 테스트")
+    void openInViewDisabled() {
+        assertThat(openInView).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = StockReservationType.class, names = {"PESSIMISTIC", "IN_MEMORY", "ATOMIC_UPDATE", "OPTIMISTIC"})
+    @DisplayName("구매 API 응답을 만드는 동안 서비스 반환 이후 SQL 이 나가지 않는지 테스트")
+    void purchase_noStatementsAfterServiceReturns(StockReservationType type) throws Exception {
+        // given
+        strategySelector.changeDefault(type);
+        probe.reset();
+
+        // when
+        mockMvc.perform(post("/api/purchase")
+                .param("itemId", itemId.toString())
+                .param("userId", userId.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.itemName").value("한정판 상품"))
+            .andExpect(jsonPath("$.totalAmount").value(10000));
+
+        // then
+        assertThat(probe.statementsAfterReturn()).isZero();
+    }
+
+    @Test
+    @DisplayName("결제 생성/처리와 주문 내역 API 응답을 만드는 동안 서비스 반환 이후 SQL 이 나가지 않는지 테스트")
+    void paymentAndHistory_noStatementsAfterServiceReturns() throws Exception {
+        // given
+        String order = mockMvc.perform(post("/api/purchase")
+                .param("itemId", itemId.toString())
+                .param("userId", userId.toString())
+                .param("quantity", "2"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        long orderId = objectMapper.readTree(order).get("id").asLong();
+
+        // when & then
+        probe.reset();
+        String created = mockMvc.perform(post("/api/payment").param("orderId", Long.toString(orderId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.amount").value(20000))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(probe.statementsAfterReturn()).isZero();
+        long paymentId = objectMapper.readTree(created).get("id").asLong();
+
+        probe.reset();
+        mockMvc.perform(post("/api/payment/process").param("paymentId", Long.toString(paymentId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"));
+        assertThat(probe.statementsAfterReturn()).isZero();
+
+        probe.reset();
+        mockMvc.perform(get("/api/orders").param("userId", userId.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orders[0].status").value("PAID"))
+            .andExpect(jsonPath("$.orders[0].itemName").value("한정판 상품"));
+        assertThat(probe.statementsAfterReturn()).isZero();
+    }
+}
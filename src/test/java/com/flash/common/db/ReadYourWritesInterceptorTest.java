@@ -0,0 +1,103 @@
+package com.flash.common.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+class ReadYourWritesInterceptorTest {
+
+    private static final String CALLABLE_INTERCEPTOR_KEY = ReadYourWritesInterceptor.class.getName() + ".callable";
+
+    private ReadYourWritesInterceptor interceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWritesWindow window = new ReadYourWritesWindow(true, 2000, () -> 0L);
+        window.recordWrite(1L);
+        interceptor = new ReadYourWritesInterceptor(window);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 시작되면 요청 스레드의 원본 고정을 해제하는지 테스트")
+    void afterConcurrentHandlingStarted_clearsPin() {
+        // given
+        request.setParameter("userId", "1");
+        interceptor.preHandle(request, response, new Object());
+        boolean pinnedBefore = ReadYourWritesContext.isPinnedToPrimary();
+
+        // when
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // then
+        assertThat(pinnedBefore).isTrue();
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 스레드에서 내린 원본 고정이 비동기 작업 스레드에도 전달되는지 테스트")
+    void preHandle_propagatesPinToAsyncTask() throws Exception {
+        // given
+        request.setParameter("userId", "1");
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        CallableProcessingInterceptor callableInterceptor = WebAsyncUtils.getAsyncManager(request)
+            .getCallableInterceptor(CALLABLE_INTERCEPTOR_KEY);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        Callable<Boolean> task = ReadYourWritesContext::isPinnedToPrimary;
+
+        // when
+        // WebAsyncManager 가 작업 스레드에서 하는 순서대로 호출한다
+        CompletableFuture<boolean[]> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                callableInterceptor.preProcess(webRequest, task);
+                boolean during = task.call();
+                callableInterceptor.postProcess(webRequest, task, during);
+                return new boolean[] { during, ReadYourWritesContext.isPinnedToPrimary() };
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        boolean[] pinned = result.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(callableInterceptor).isNotNull();
+        assertThat(pinned[0]).isTrue();
+        assertThat(pinned[1]).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 기록이 없는 사용자는 비동기 작업도 고정하지 않는지 테스트")
+    void preHandle_outsideWindow_noAsyncPin() {
+        // given
+        request.setParameter("userId", "2");
+
+        // when
+        interceptor.preHandle(request, response, new Object());
+
+        // then
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+        assertThat(WebAsyncUtils.getAsyncManager(request).getCallableInterceptor(CALLABLE_INTERCEPTOR_KEY)).isNull();
+    }
+}
@@ -0,0 +1,43 @@
+package com.flash.common.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReadYourWritesWindowTest {
+
+    @Test
+    @DisplayName("쓰기 후 설정한 시간 동안만 원본 조회 대상인지 테스트")
+    void isWithinWindow_expires() {
+        // given
+        AtomicLong clock = new AtomicLong(0);
+        ReadYourWritesWindow window = new ReadYourWritesWindow(true, 2000, clock::get);
+
+        // when
+        window.recordWrite(1L);
+        boolean justAfter = window.isWithinWindow(1L);
+        boolean otherUser = window.isWithinWindow(2L);
+        clock.set(2000);
+        boolean expired = window.isWithinWindow(1L);
+
+        // then
+        assertThat(justAfter).isTrue();
+        assertThat(otherUser).isFalse();
+        assertThat(expired).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제본을 쓰지 않으면 기록하지 않는지 테스트")
+    void recordWrite_disabled() {
+        // given
+        ReadYourWritesWindow window = new ReadYourWritesWindow(false, 2000, () -> 0L);
+
+        // when
+        window.recordWrite(1L);
+
+        // then
+        assertThat(window.isWithinWindow(1L)).isFalse();
+    }
+}
@@ -0,0 +1,105 @@
+package com.flash.common.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 원본과 복제본 대신 H2 내장 DB 두 개를 띄워 라우팅을 확인한다
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+
+        routing = new ReplicaRoutingDataSource(primary, replica);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName(name)
+            .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return database;
+    }
+
+    private String readNode(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 그 외는 원본으로 가는지 테스트")
+    void route_readOnlyToReplica() {
+        // when
+        String readOnly = readNode(readOnlyTransaction);
+        String write = readNode(writeTransaction);
+        String withoutTransaction = jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+
+        // then
+        assertThat(readOnly).isEqualTo("replica");
+        assertThat(write).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 고정된 요청은 읽기 전용 트랜잭션도 원본에서 읽는지 테스트")
+    void route_pinnedToPrimary() {
+        // given
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO node VALUES ('written')"));
+        ReadYourWritesContext.pinToPrimary();
+
+        // when
+        Integer count = readOnlyTransaction.execute(status ->
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM node WHERE name = 'written'", Integer.class));
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제본을 사용할 수 없으면 읽기 전용 트랜잭션도 원본으로 가는지 테스트")
+    void route_replicaUnavailable() {
+        // given
+        routing.setReplicaAvailable(false);
+
+        // when
+        String readOnly = readNode(readOnlyTransaction);
+
+        // then
+        assertThat(readOnly).isEqualTo("primary");
+    }
+}
@@ -27,4 +27,17 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getCode()).isEqualTo(code);
         assertThat(response.getBody().getMessage()).isEqualTo(message);
     }
+
+    @Test
+    @DisplayName("Idempotency-Key 재사용 시 422 응답이 반환되는지 확인")
+    void handleKeyReused() {
+        // when
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+            handler.handleKeyReused(new IdempotencyException.KeyReusedException());
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(422);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCode()).isEqualTo("IDEMPOTENCY_KEY_REUSED");
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.flash.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 ID가 단조 증가하는지 테스트")
+    void nextId_monotonicWithinSameMillis() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        // when
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+
+            // then
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID가 중복되거나 감소하지 않는지 테스트")
+    void nextId_clockMovesBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        // when
+        long beforeSkew = generator.nextId();
+        clock.set(NOW - 5_000);
+        long duringSkew = generator.nextId();
+        clock.set(NOW + 1);
+        long afterSkew = generator.nextId();
+
+        // then
+        assertThat(duringSkew).isGreaterThan(beforeSkew);
+        assertThat(afterSkew).isGreaterThan(duringSkew);
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 ID가 겹치지 않는지 테스트")
+    void nextId_differentNodes() {
+        // given
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+
+        // when & then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 여러 스레드에서 발급한 ID가 모두 고유한지 테스트")
+    void nextId_concurrent_unique() throws InterruptedException {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threadCount = 16;
+        int idsPerThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외 발생 테스트")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.flash.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.flash.common.exception.IdempotencyException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyCacheTest {
+
+    private static final List<Object> REQUEST = List.of(1L, 1);
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    @DisplayName("완료된 결과는 TTL 동안 다시 실행하지 않고 돌려주는지 테스트")
+    void execute_returnsCachedUntilExpired() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String first = cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-" + calls.incrementAndGet());
+        String second = cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-" + calls.incrementAndGet());
+        clock.set(1_000);
+        String afterTtl = cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-" + calls.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("order-1");
+        assertThat(second).isEqualTo("order-1");
+        assertThat(afterTtl).isEqualTo("order-2");
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 키의 요청은 원래 요청의 결과를 기다리는지 테스트")
+    void execute_inFlightDuplicatesShareResult() throws Exception {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> original = executorService.submit(() -> cache.execute("purchase", 1L, "key-1", REQUEST, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "order-1";
+        }));
+        started.await();
+        Future<String> duplicate = executorService.submit(
+            () -> cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-" + calls.incrementAndGet()));
+        release.countDown();
+
+        // then
+        assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo("order-1");
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("order-1");
+        assertThat(calls.get()).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 캐시하지 않아 같은 키로 재시도할 수 있는지 테스트")
+    void execute_failureIsNotCached() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+
+        // when & then
+        assertThatThrownBy(() -> cache.execute("purchase", 1L, "key-1", REQUEST, () -> {
+            throw new IllegalStateException("일시 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-1")).isEqualTo("order-1");
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 오래된 결과부터 제거되는지 테스트")
+    void execute_boundedBySize() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(3, 60_000, clock::get);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            cache.execute("purchase", 1L, "key-" + i, REQUEST, () -> value);
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.execute("purchase", 1L, "key-9", REQUEST, () -> -1)).isEqualTo(9);
+        assertThat(cache.execute("purchase", 1L, "key-0", REQUEST, () -> -1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("키가 없거나 범위가 다르면 매번 실행하는지 테스트")
+    void execute_withoutKey() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.execute("purchase", 1L, null, REQUEST, calls::incrementAndGet);
+        cache.execute("purchase", 1L, null, REQUEST, calls::incrementAndGet);
+        cache.execute("purchase", 1L, "key-1", REQUEST, calls::incrementAndGet);
+        cache.execute("payment", 1L, "key-1", REQUEST, calls::incrementAndGet);
+
+        // then
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 키를 보내면 남의 결과를 받지 않고 따로 실행하는지 테스트")
+    void execute_scopedByOwner() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+
+        // when
+        String mine = cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-of-1");
+        String theirs = cache.execute("purchase", 2L, "key-1", REQUEST, () -> "order-of-2");
+
+        // then
+        assertThat(mine).isEqualTo("order-of-1");
+        assertThat(theirs).isEqualTo("order-of-2");
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 내용으로 다시 보내면 거절하는지 테스트")
+    void execute_rejectsReusedKeyWithDifferentRequest() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+        cache.execute("purchase", 1L, "key-1", List.of(1L, 1), () -> "order-1");
+
+        // when & then
+        assertThatThrownBy(() -> cache.execute("purchase", 1L, "key-1", List.of(1L, 2), () -> "order-2"))
+            .isInstanceOf(IdempotencyException.KeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("Error 로 끝난 요청도 대기 항목을 남기지 않아 재시도할 수 있는지 테스트")
+    void execute_errorIsNotCached() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(100, 1_000, clock::get);
+
+        // when & then
+        assertThatThrownBy(() -> cache.execute("purchase", 1L, "key-1", REQUEST, () -> {
+            throw new AssertionError("치명적 오류");
+        })).isInstanceOf(AssertionError.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.execute("purchase", 1L, "key-1", REQUEST, () -> "order-1")).isEqualTo("order-1");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
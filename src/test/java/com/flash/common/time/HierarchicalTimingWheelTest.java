@@ -0,0 +1,97 @@
+package com.flash.common.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long NOW = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    @Test
+    @DisplayName("여러 단에 나뉘어 들어간 작업이 각자의 시각에 순서대로 실행되는지 테스트")
+    void advanceTo_firesAcrossLevels() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 3, clock::get);
+        List<Long> fired = new ArrayList<>();
+        // 0단(80ms 미만), 1단(640ms 미만), 2단, 휠 범위(5120ms)를 넘는 작업
+        long[] delays = {30, 75, 130, 639, 2_000, 9_000};
+        for (long delay : delays) {
+            wheel.schedule(NOW + delay, () -> fired.add(clock.get() - NOW));
+        }
+
+        // when
+        for (long now = NOW; now <= NOW + 10_000; now += 10) {
+            clock.set(now);
+            wheel.advanceTo(now);
+        }
+
+        // then
+        assertThat(fired).containsExactly(30L, 80L, 130L, 640L, 2_000L, 9_000L);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("시각이 한 번에 많이 흘러도 그 사이의 작업을 모두 실행하는지 테스트")
+    void advanceTo_catchesUp() {
+        // given
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 3, () -> NOW);
+        List<Integer> fired = new ArrayList<>();
+        wheel.schedule(NOW + 500, () -> fired.add(2));
+        wheel.schedule(NOW + 50, () -> fired.add(1));
+        wheel.schedule(NOW + 3_000, () -> fired.add(3));
+
+        // when
+        wheel.advanceTo(NOW + 1_000);
+
+        // then
+        assertThat(fired).containsExactly(1, 2);
+        assertThat(wheel.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각의 작업은 다음 tick 에 실행되는지 테스트")
+    void schedule_pastDeadline() {
+        // given
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 3, () -> NOW);
+        List<String> fired = new ArrayList<>();
+
+        // when
+        wheel.schedule(NOW - 1_000, () -> fired.add("late"));
+        wheel.advanceTo(NOW);
+
+        // then
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않고 대기 수에서도 빠지는지 테스트")
+    void cancel_removesTimer() {
+        // given
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 3, () -> NOW);
+        List<String> fired = new ArrayList<>();
+        HierarchicalTimingWheel.Timer placed = wheel.schedule(NOW + 3_000, () -> fired.add("placed"));
+        wheel.advanceTo(NOW);
+        HierarchicalTimingWheel.Timer queued = wheel.schedule(NOW + 50, () -> fired.add("queued"));
+        wheel.schedule(NOW + 100, () -> fired.add("kept"));
+
+        // when
+        boolean placedCancelled = placed.cancel();
+        boolean queuedCancelled = queued.cancel();
+        int pendingAfterCancel = wheel.pendingCount();
+        wheel.advanceTo(NOW + 5_000);
+
+        // then
+        assertThat(placedCancelled).isTrue();
+        assertThat(queuedCancelled).isTrue();
+        assertThat(pendingAfterCancel).isEqualTo(1);
+        assertThat(fired).containsExactly("kept");
+        assertThat(placed.cancel()).isFalse();
+        assertThat(wheel.pendingCount()).isZero();
+    }
+}
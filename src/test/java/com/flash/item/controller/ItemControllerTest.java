@@ -1,8 +1,13 @@
 package com.flash.item.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flash.item.domain.CatalogItem;
 import com.flash.item.domain.Item;
-import com.flash.item.dto.ItemResponse;
+import com.flash.item.dto.ItemJson;
+import com.flash.item.dto.ItemJsonResponse;
+import com.flash.item.dto.ItemListJsonResponse;
 import com.flash.item.service.ItemService;
+import com.flash.item.service.StockStreamBroadcaster;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,9 +28,15 @@ class ItemControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private StockStreamBroadcaster stockStreamBroadcaster;
+
     @Test
     @DisplayName("판매 중인 모든 상품 조회 API 테스트")
     void getItems() throws Exception {
@@ -49,17 +60,20 @@ class ItemControllerTest {
             .saleEnd(now.plusDays(1))
             .build();
 
-        List<Item> items = Arrays.asList(item1, item2);
-        when(itemService.getAllOnSaleItems()).thenReturn(items);
+        List<ItemJson> items = Arrays.asList(
+            ItemJson.encode(objectMapper, CatalogItem.from(item1)),
+            ItemJson.encode(objectMapper, CatalogItem.from(item2)));
+        when(itemService.getOnSaleCatalog()).thenReturn(new ItemListJsonResponse(items, new int[]{10, 4}, "e.1.2"));
 
         // when & then
         mockMvc.perform(get("/api/items"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].name", is("상품1")))
-            .andExpect(jsonPath("$[1].name", is("상품2")));
+            .andExpect(jsonPath("$[1].name", is("상품2")))
+            .andExpect(jsonPath("$[1].stock", is(4)));
 
-        verify(itemService, times(1)).getAllOnSaleItems();
+        verify(itemService, times(1)).getOnSaleCatalog();
     }
 
     @Test
@@ -76,7 +90,8 @@ class ItemControllerTest {
             .saleEnd(now.plusDays(1))
             .build();
 
-        when(itemService.getOnSaleItemById(1L)).thenReturn(item);
+        ItemJson json = ItemJson.encode(objectMapper, CatalogItem.from(item));
+        when(itemService.getOnSaleCatalogItem(1L)).thenReturn(new ItemJsonResponse(json, 10, "e.1.3"));
 
         // when & then
         mockMvc.perform(get("/api/items/1"))
@@ -84,8 +99,34 @@ class ItemControllerTest {
             .andExpect(jsonPath("$.name", is("테스트 상품")))
             .andExpect(jsonPath("$.description", is("테스트 설명")))
             .andExpect(jsonPath("$.price", is(10000)))
-            .andExpect(jsonPath("$.stock", is(10)));
+            .andExpect(jsonPath("$.stock", is(10)))
+            .andExpect(header().string("ETag", "\"e.1.3\""));
+
+        verify(itemService, times(1)).getOnSaleCatalogItem(1L);
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 본문 없이 304로 응답하는지 테스트")
+    void getItem_notModified() throws Exception {
+        // given
+        Item item = Item.builder()
+            .name("테스트 상품")
+            .description("테스트 설명")
+            .price(10000)
+            .stock(10)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build();
+        ItemJson json = ItemJson.encode(objectMapper, CatalogItem.from(item));
+        when(itemService.getOnSaleCatalogItem(1L)).thenReturn(new ItemJsonResponse(json, 10, "e.1.3"));
+
+        // when & then
+        mockMvc.perform(get("/api/items/1").header("If-None-Match", "\"e.1.3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
 
-        verify(itemService, times(1)).getOnSaleItemById(1L);
+        mockMvc.perform(get("/api/items/1").header("If-None-Match", "\"e.1.2\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.stock", is(10)));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,257 @@
+package com.flash.item.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class StripedStockTest {
+
+    @Test
+    @DisplayName("재고가 셀에 고르게 분배되는지 테스트")
+    void distributesStock() {
+        // given
+        StripedStock stock = new StripedStock(10, 4);
+
+        // when & then
+        assertThat(stock.cellCount()).isEqualTo(4);
+        assertThat(stock.sum()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("자기 셀이 비면 이웃 셀에서 빌려오는지 테스트")
+    void borrowsFromNeighbours() {
+        // given
+        StripedStock stock = new StripedStock(4, 4);
+
+        // when
+        boolean first = stock.tryDecrease(1);
+        boolean second = stock.tryDecrease(1);
+        boolean third = stock.tryDecrease(1);
+        boolean fourth = stock.tryDecrease(1);
+        boolean fifth = stock.tryDecrease(1);
+
+        // then
+        assertAll(
+            () -> assertThat(first && second && third && fourth).isTrue(),
+            () -> assertThat(fifth).isFalse(),
+            () -> assertThat(stock.sum()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 셀에 걸친 수량도 차감하고, 부족하면 원복하는지 테스트")
+    void gathersAcrossCells() {
+        // given
+        StripedStock stock = new StripedStock(8, 4);
+
+        // when
+        boolean gathered = stock.tryDecrease(5);
+        boolean insufficient = stock.tryDecrease(4);
+
+        // then
+        assertAll(
+            () -> assertThat(gathered).isTrue(),
+            () -> assertThat(insufficient).isFalse(),
+            () -> assertThat(stock.sum()).isEqualTo(3)
+        );
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("동시성 테스트 - 1000명이 100개 재고 구매 시 초과 판매 없음")
+    void tryDecrease_concurrent_neverOversells() throws InterruptedException {
+        // given
+        StripedStock stock = new StripedStock(100);
+
+        int threadCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (stock.tryDecrease(1)) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(100),
+            () -> assertThat(stock.sum()).isEqualTo(0)
+        );
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("동시성 테스트 - 여러 셀에 걸친 구매가 겹쳐도 재고가 충분하면 실패하지 않음")
+    void tryDecrease_concurrentGather_noFalseSoldOut() throws InterruptedException {
+        // given
+        // 셀마다 1~2개씩만 있어 2개 구매는 대부분 여러 셀에서 모아야 한다
+        StripedStock stock = new StripedStock(100, 64);
+
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    if (stock.tryDecrease(2)) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(threadCount),
+            () -> assertThat(stock.sum()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("경합 테스트 - 여러 수량이 섞여도 준비된 재고를 정확히 소진")
+    void tryDecrease_mixedQuantities_sellsExactly() throws InterruptedException {
+        // given
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        int totalStock = threads * 20_000;
+        StripedStock stock = new StripedStock(totalStock);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger soldUnits = new AtomicInteger(0);
+
+        // when
+        // 1~3개씩 사다가 실패하면 1개로 다시 시도하고, 그것도 실패하면(품절) 멈춘다
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; ; j++) {
+                        int quantity = j % 3 + 1;
+                        if (stock.tryDecrease(quantity)) {
+                            soldUnits.addAndGet(quantity);
+                        } else if (stock.tryDecrease(1)) {
+                            soldUnits.incrementAndGet();
+                        } else {
+                            break;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        // 초과 판매도, 재고가 남았는데 품절로 멈추는 일도 없어야 한다
+        assertAll(
+            () -> assertThat(soldUnits.get()).isEqualTo(totalStock),
+            () -> assertThat(stock.sum()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("경합 벤치마크 - 단일 AtomicInteger CAS 루프 vs 셀 분할 카운터")
+    void contentionBenchmark() throws InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        int stockPerThread = 200_000;
+        int totalStock = threads * stockPerThread;
+
+        // 단일 캐시 라인에 경합이 몰리는 기존 방식
+        AtomicInteger single = new AtomicInteger(totalStock);
+        IntPredicate casLoop = quantity -> {
+            int current;
+            do {
+                current = single.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!single.compareAndSet(current, current - quantity));
+            return true;
+        };
+
+        StripedStock striped = new StripedStock(totalStock);
+
+        // JIT 워밍업
+        run(threads, 20_000, casLoop);
+        run(threads, 20_000, striped::tryDecrease);
+
+        long casNanos = run(threads, stockPerThread - 20_000, casLoop);
+        long stripedNanos = run(threads, stockPerThread - 20_000, striped::tryDecrease);
+
+        System.out.println("스레드 수: " + threads);
+        System.out.println("AtomicInteger CAS 루프: " + TimeUnit.NANOSECONDS.toMillis(casNanos) + "ms");
+        System.out.println("StripedStock: " + TimeUnit.NANOSECONDS.toMillis(stripedNanos) + "ms");
+
+        // 두 방식 모두 준비된 재고를 정확히 소진해야 함
+        assertThat(single.get()).isEqualTo(0);
+        assertThat(striped.sum()).isEqualTo(0);
+    }
+
+    private long run(int threads, int decreasesPerThread, IntPredicate decrease) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int j = 0; j < decreasesPerThread; j++) {
+                        decrease.test(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executorService.shutdown();
+        return elapsed;
+    }
+}
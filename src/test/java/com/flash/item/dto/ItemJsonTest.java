@@ -0,0 +1,72 @@
+package com.flash.item.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.Item;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ItemJsonTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CatalogItem createItem(Long id, String description) {
+        Item item = Item.builder()
+            .name("상품" + id)
+            .description(description)
+            .price(10000)
+            .stock(10)
+            .saleStart(LocalDateTime.of(2025, 1, 1, 0, 0))
+            .saleEnd(LocalDateTime.of(2025, 1, 2, 0, 0))
+            .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return CatalogItem.from(item);
+    }
+
+    @Test
+    @DisplayName("재고를 끼운 결과가 Jackson 직렬화 결과와 같은지 테스트")
+    void writeTo_matchesJackson() throws IOException {
+        // given
+        CatalogItem item = createItem(1L, "\"stock\":0 이 들어간 설명");
+        ItemJson json = ItemJson.encode(objectMapper, item);
+
+        for (int stock : new int[]{0, 7, 10, 1234567}) {
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            json.writeTo(out, stock);
+
+            // then
+            byte[] expected = objectMapper.writeValueAsBytes(ItemResponse.of(item, stock));
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(new String(expected, StandardCharsets.UTF_8));
+            assertThat(json.length(stock)).isEqualTo(expected.length);
+        }
+    }
+
+    @Test
+    @DisplayName("목록 응답이 JSON 배열과 같고 길이가 맞는지 테스트")
+    void listResponse_matchesJackson() throws IOException {
+        // given
+        CatalogItem first = createItem(1L, "설명1");
+        CatalogItem second = createItem(2L, "설명2");
+        ItemListJsonResponse response = new ItemListJsonResponse(
+            List.of(ItemJson.encode(objectMapper, first), ItemJson.encode(objectMapper, second)), new int[]{3, 0}, "1.1.1");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        response.writeTo(out);
+
+        // then
+        byte[] expected = objectMapper.writeValueAsBytes(List.of(ItemResponse.of(first, 3), ItemResponse.of(second, 0)));
+        assertThat(out.toByteArray()).isEqualTo(expected);
+        assertThat(response.contentLength()).isEqualTo(expected.length);
+    }
+}
@@ -41,4 +41,17 @@ class ItemExceptionTest {
         assertThat(exception.getMessage()).isEqualTo("상품 재고가 부족합니다.");
         assertThat(exception.getCode()).isEqualTo("OUT_OF_STOCK");
     }
+
+    @Test
+    @DisplayName("SoldOutException 생성 시 올바른 메시지와 코드가 설정되는지 확인")
+    void createSoldOutException() {
+        // when
+        ItemException.SoldOutException exception = 
+            new ItemException.SoldOutException();
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("품절된 상품입니다.");
+        assertThat(exception.getCode()).isEqualTo("SOLD_OUT");
+        assertThat(exception.getStackTrace()).isEmpty();
+    }
 } 
\ No newline at end of file
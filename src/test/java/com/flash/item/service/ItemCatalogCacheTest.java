@@ -0,0 +1,278 @@
+package com.flash.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.Item;
+import com.flash.item.domain.SaleState;
+import com.flash.item.repository.ItemListing;
+import com.flash.item.repository.ItemRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCatalogCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private StockWriteBehind stockWriteBehind;
+
+    @Mock
+    private SaleLifecycleScheduler saleLifecycleScheduler;
+
+    private LiveStockBoard liveStockBoard;
+
+    private ItemCatalogCache itemCatalogCache;
+
+    @BeforeEach
+    void setUp() {
+        liveStockBoard = new LiveStockBoard();
+        // 반영 락은 테스트에서 의미가 없으므로 읽기 작업을 그대로 실행
+        lenient().when(stockWriteBehind.readConsistently(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        itemCatalogCache = new ItemCatalogCache(
+            itemRepository, stockLedger, stockWriteBehind, liveStockBoard, saleLifecycleScheduler,
+            Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private Item createItem(Long id, int stock, LocalDateTime saleStart, LocalDateTime saleEnd) {
+        Item item = Item.builder()
+            .name("상품" + id)
+            .description("설명" + id)
+            .price(10000)
+            .stock(stock)
+            .saleStart(saleStart)
+            .saleEnd(saleEnd)
+            .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+
+    private ItemListing listingOf(Item item) {
+        return new ItemListing() {
+            @Override
+            public Long getId() {
+                return item.getId();
+            }
+
+            @Override
+            public String getName() {
+                return item.getName();
+            }
+
+            @Override
+            public Integer getPrice() {
+                return item.getPrice();
+            }
+
+            @Override
+            public LocalDateTime getSaleStart() {
+                return item.getSaleStart();
+            }
+
+            @Override
+            public LocalDateTime getSaleEnd() {
+                return item.getSaleEnd();
+            }
+
+            @Override
+            public Integer getDescriptionLength() {
+                return item.getDescription().length();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("판매 상태가 전환되면 DB 조회 없이 판매 중 목록이 바뀌는지 테스트")
+    void onSaleStateChanged_recomputesOnSale() {
+        // given
+        Item onSale = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        Item upcoming = createItem(2L, 5, NOW.plusMinutes(30), NOW.plusHours(2));
+        when(itemRepository.findAll()).thenReturn(List.of(onSale, upcoming));
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        when(saleLifecycleScheduler.isOnSale(2L)).thenReturn(false);
+
+        // when
+        List<CatalogItem> before = itemCatalogCache.getOnSaleItems();
+        when(saleLifecycleScheduler.isOnSale(2L)).thenReturn(true);
+        itemCatalogCache.onSaleStateChanged(2L, SaleState.ON_SALE);
+        List<CatalogItem> afterStart = itemCatalogCache.getOnSaleItems();
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(false);
+        itemCatalogCache.onSaleStateChanged(1L, SaleState.ENDED);
+        List<CatalogItem> afterEnd = itemCatalogCache.getOnSaleItems();
+
+        // then
+        assertThat(before).extracting(CatalogItem::getId).containsExactly(1L);
+        assertThat(afterStart).extracting(CatalogItem::getId).containsExactly(1L, 2L);
+        assertThat(afterEnd).extracting(CatalogItem::getId).containsExactly(2L);
+        verify(itemRepository, times(1)).findAll();
+        verify(saleLifecycleScheduler, times(1)).register(anyCollection());
+    }
+
+    @Test
+    @DisplayName("판매 시작 시 미리 적재된 메모리 원장 재고로 조회 재고를 맞추는지 테스트")
+    void onSaleStateChanged_seedsFromPreloadedLedger() {
+        // given
+        Item upcoming = createItem(1L, 10, NOW.plusMinutes(30), NOW.plusHours(2));
+        when(itemRepository.findAll()).thenReturn(List.of(upcoming));
+        itemCatalogCache.reload();
+        when(stockLedger.remaining(1L)).thenReturn(OptionalInt.of(8));
+
+        // when
+        itemCatalogCache.onSaleStateChanged(1L, SaleState.ON_SALE);
+
+        // then
+        assertThat(liveStockBoard.stockOf(1L)).hasValue(8);
+    }
+
+    @Test
+    @DisplayName("목록 재고는 스냅샷 값이 아니라 실시간 재고로 응답하는지 테스트")
+    void stockOf_overlaysLiveStock() {
+        // given
+        Item item = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        when(itemRepository.findAll()).thenReturn(List.of(item));
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        CatalogItem cached = itemCatalogCache.getOnSaleItems().get(0);
+
+        // when
+        liveStockBoard.decrease(1L, 3);
+
+        // then
+        assertThat(cached.getStock()).isEqualTo(10);
+        assertThat(itemCatalogCache.stockOf(cached)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("재고가 바뀌면 상품 ETag가 바뀌고, 그대로면 유지되는지 테스트")
+    void findOnSaleJson_eTagFollowsStock() {
+        // given
+        Item item = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        when(itemRepository.findAll()).thenReturn(List.of(item));
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        String first = itemCatalogCache.findOnSaleJson(1L).orElseThrow().getETag();
+
+        // when
+        String unchanged = itemCatalogCache.findOnSaleJson(1L).orElseThrow().getETag();
+        liveStockBoard.decrease(1L, 1);
+        String changed = itemCatalogCache.findOnSaleJson(1L).orElseThrow().getETag();
+
+        // then
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("상품 정보가 DB에서 바뀌면 카탈로그를 다시 적재하는지 테스트")
+    void refreshIfChanged_reloadsOnListingChange() {
+        // given
+        Item item = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        // 판매 기간이 늘어남
+        Item extended = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(3));
+        when(itemRepository.findAll()).thenReturn(List.of(item), List.of(extended));
+        when(itemRepository.findAllListings()).thenReturn(List.of(listingOf(extended)));
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        itemCatalogCache.getOnSaleItems();
+
+        // when
+        itemCatalogCache.refreshIfChanged();
+
+        // then
+        assertThat(itemCatalogCache.getOnSaleItems())
+            .extracting(CatalogItem::getSaleEnd)
+            .containsExactly(NOW.plusHours(3));
+        verify(saleLifecycleScheduler, times(2)).register(anyCollection());
+    }
+
+    @Test
+    @DisplayName("재고만 바뀌었으면 카탈로그를 다시 적재하지 않는지 테스트")
+    void refreshIfChanged_ignoresStockOnlyChange() {
+        // given
+        Item item = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        Item sold = createItem(1L, 7, NOW.minusHours(1), NOW.plusHours(1));
+        when(itemRepository.findAll()).thenReturn(List.of(item));
+        when(itemRepository.findAllListings()).thenReturn(List.of(listingOf(sold)));
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        String before = itemCatalogCache.findOnSaleJson(1L).orElseThrow().getETag();
+
+        // when
+        itemCatalogCache.refreshIfChanged();
+
+        // then
+        assertThat(itemCatalogCache.findOnSaleJson(1L).orElseThrow().getETag()).isEqualTo(before);
+        verify(itemRepository, times(1)).findAll();
+        verify(saleLifecycleScheduler, times(1)).register(anyCollection());
+    }
+
+    @Test
+    @DisplayName("설명이 바뀌면 본문을 읽지 않고 길이로 감지해 다시 적재하는지 테스트")
+    void refreshIfChanged_reloadsOnDescriptionChange() {
+        // given
+        Item item = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        Item edited = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        ReflectionTestUtils.setField(edited, "description", "한정 수량 추가 입고");
+        when(itemRepository.findAll()).thenReturn(List.of(item), List.of(edited));
+        when(itemRepository.findAllListings()).thenReturn(List.of(listingOf(edited)));
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        itemCatalogCache.getOnSaleItems();
+
+        // when
+        itemCatalogCache.refreshIfChanged();
+
+        // then
+        assertThat(itemCatalogCache.getOnSaleItems())
+            .extracting(CatalogItem::getDescription)
+            .containsExactly("한정 수량 추가 입고");
+    }
+
+    @Test
+    @DisplayName("다시 적재할 때 메모리 원장이 아니라 커밋된 재고로 조회 재고를 맞추는지 테스트")
+    void reload_seedsCommittedStock() {
+        // given
+        // DB 10개, 커밋됐지만 아직 DB에 반영되지 않은 차감 2개, 원장에는 커밋 전 예약 3개가 더 빠져 있다
+        Item item = createItem(1L, 10, NOW.minusHours(1), NOW.plusHours(1));
+        when(itemRepository.findAll()).thenReturn(List.of(item));
+        when(stockWriteBehind.pending(1L)).thenReturn(2);
+        lenient().when(stockLedger.remaining(1L)).thenReturn(OptionalInt.of(5));
+
+        // when
+        itemCatalogCache.reload();
+        // 예약 3개가 커밋되며 조회 재고에서 빠진다
+        liveStockBoard.decrease(1L, 3);
+
+        // then
+        assertThat(liveStockBoard.stockOf(1L)).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 변경 확인을 하지 않는지 테스트")
+    void refreshIfChanged_beforeFirstLoad() {
+        // when
+        itemCatalogCache.refreshIfChanged();
+
+        // then
+        verify(itemRepository, times(0)).findAllListings();
+    }
+}
@@ -1,16 +1,14 @@
 package com.flash.item.service;
 
-import com.flash.item.domain.Item;
+import com.flash.item.dto.ItemJsonResponse;
+import com.flash.item.dto.ItemListJsonResponse;
 import com.flash.item.exception.ItemException;
-import com.flash.item.repository.ItemRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.*;
@@ -23,80 +21,48 @@ class ItemServiceTest {
     private ItemServiceImpl itemService;
 
     @Mock
-    private ItemRepository itemRepository;
+    private ItemCatalogCache itemCatalogCache;
 
     @Test
-    @DisplayName("판매 중인 모든 상품 조회 테스트")
-    void getAllOnSaleItems() {
+    @DisplayName("판매 중인 상품 목록을 카탈로그 캐시에서 응답하는지 테스트")
+    void getOnSaleCatalog() {
         // given
-        LocalDateTime now = LocalDateTime.now();
-        Item item1 = Item.builder()
-            .name("상품1")
-            .description("설명1")
-            .price(10000)
-            .stock(10)
-            .saleStart(now.minusDays(1))
-            .saleEnd(now.plusDays(1))
-            .build();
-
-        Item item2 = Item.builder()
-            .name("상품2")
-            .description("설명2")
-            .price(20000)
-            .stock(5)
-            .saleStart(now.minusDays(1))
-            .saleEnd(now.plusDays(1))
-            .build();
-
-        when(itemRepository.findAllOnSale(any(LocalDateTime.class)))
-            .thenReturn(Arrays.asList(item1, item2));
+        ItemListJsonResponse catalog = new ItemListJsonResponse(List.of(), new int[0], "etag");
+        when(itemCatalogCache.getOnSaleJson()).thenReturn(catalog);
 
         // when
-        List<Item> items = itemService.getAllOnSaleItems();
+        ItemListJsonResponse response = itemService.getOnSaleCatalog();
 
         // then
-        assertThat(items).hasSize(2);
-        assertThat(items.get(0).getName()).isEqualTo("상품1");
-        assertThat(items.get(1).getName()).isEqualTo("상품2");
-        verify(itemRepository, times(1)).findAllOnSale(any(LocalDateTime.class));
+        assertThat(response).isSameAs(catalog);
+        verify(itemCatalogCache, times(1)).getOnSaleJson();
     }
 
     @Test
-    @DisplayName("판매 중인 특정 상품 조회 테스트")
-    void getOnSaleItemById() {
+    @DisplayName("판매 중인 특정 상품을 카탈로그 캐시에서 응답하는지 테스트")
+    void getOnSaleCatalogItem() {
         // given
-        LocalDateTime now = LocalDateTime.now();
-        Item item = Item.builder()
-            .name("테스트 상품")
-            .description("테스트 설명")
-            .price(10000)
-            .stock(10)
-            .saleStart(now.minusDays(1))
-            .saleEnd(now.plusDays(1))
-            .build();
-
-        when(itemRepository.findOnSaleById(1L))
-            .thenReturn(Optional.of(item));
+        ItemJsonResponse item = new ItemJsonResponse(null, 10, "etag");
+        when(itemCatalogCache.findOnSaleJson(1L)).thenReturn(Optional.of(item));
 
         // when
-        Item foundItem = itemService.getOnSaleItemById(1L);
+        ItemJsonResponse response = itemService.getOnSaleCatalogItem(1L);
 
         // then
-        assertThat(foundItem).isNotNull();
-        assertThat(foundItem.getName()).isEqualTo("테스트 상품");
-        verify(itemRepository, times(1)).findOnSaleById(1L);
+        assertThat(response).isSameAs(item);
+        assertThat(response.getStock()).isEqualTo(10);
     }
 
     @Test
     @DisplayName("존재하지 않는 상품 조회 시 예외 발생 테스트")
-    void getOnSaleItemByIdNotFound() {
+    void getOnSaleCatalogItemNotFound() {
         // given
-        when(itemRepository.findOnSaleById(1L))
+        when(itemCatalogCache.findOnSaleJson(1L))
             .thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> itemService.getOnSaleItemById(1L))
+        assertThatThrownBy(() -> itemService.getOnSaleCatalogItem(1L))
             .isInstanceOf(ItemException.ItemNotFoundException.class);
-        verify(itemRepository, times(1)).findOnSaleById(1L);
+        verify(itemCatalogCache, times(1)).findOnSaleJson(1L);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.flash.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LiveStockBoardTest {
+
+    @Test
+    @DisplayName("재고가 바뀔 때마다 버전이 증가하고 재고와 함께 읽히는지 테스트")
+    void decrease_bumpsVersion() {
+        // given
+        LiveStockBoard board = new LiveStockBoard();
+        board.seed(1L, 10);
+        long seeded = board.stateOf(1L);
+
+        // when
+        board.decrease(1L, 3);
+        long decreased = board.stateOf(1L);
+
+        // then
+        assertThat(LiveStockBoard.stock(seeded)).isEqualTo(10);
+        assertThat(LiveStockBoard.stock(decreased)).isEqualTo(7);
+        assertThat(LiveStockBoard.version(decreased)).isGreaterThan(LiveStockBoard.version(seeded));
+        assertThat(board.changeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고는 0 아래로 내려가지 않고, 적재 전 상품은 상태가 없는지 테스트")
+    void decrease_clampsAtZero() {
+        // given
+        LiveStockBoard board = new LiveStockBoard();
+        board.seed(1L, 2);
+
+        // when
+        board.decrease(1L, 5);
+        board.decrease(2L, 1);
+
+        // then
+        assertThat(board.stockOf(1L)).hasValue(0);
+        assertThat(board.stateOf(2L)).isEqualTo(LiveStockBoard.NO_STATE);
+    }
+}
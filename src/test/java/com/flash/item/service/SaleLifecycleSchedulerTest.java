@@ -0,0 +1,189 @@
+package com.flash.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.common.time.HierarchicalTimingWheel;
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.Item;
+import com.flash.item.domain.SaleState;
+import com.flash.item.exception.ItemException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SaleLifecycleSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final long LEAD_MILLIS = 60_000;
+
+    @Mock
+    private ObjectProvider<SaleLifecycleListener> listeners;
+
+    @Mock
+    private SaleLifecycleListener listener;
+
+    @Mock
+    private Clock clock;
+
+    private SaleLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        setNow(NOW);
+        scheduler = new SaleLifecycleScheduler(listeners, 10, 64, 4, LEAD_MILLIS, clock, Runnable::run);
+    }
+
+    private void setNow(LocalDateTime now) {
+        when(clock.millis()).thenReturn(now.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    private CatalogItem createItem(Long id, LocalDateTime saleStart, LocalDateTime saleEnd) {
+        Item item = Item.builder()
+            .name("상품" + id)
+            .description("설명" + id)
+            .price(10000)
+            .stock(10)
+            .saleStart(saleStart)
+            .saleEnd(saleEnd)
+            .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return CatalogItem.from(item);
+    }
+
+    @Test
+    @DisplayName("판매 시작/종료 시각에 상태가 전환되고 리스너에 알리는지 테스트")
+    void register_transitionsAtBoundaries() {
+        // given
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        CatalogItem item = createItem(1L, NOW.plusMinutes(30), NOW.plusHours(1));
+        scheduler.register(List.of(item));
+
+        // when
+        SaleState before = scheduler.stateOf(1L);
+        setNow(NOW.plusMinutes(30));
+        scheduler.advance();
+        SaleState afterStart = scheduler.stateOf(1L);
+        setNow(NOW.plusHours(1));
+        scheduler.advance();
+        SaleState afterEnd = scheduler.stateOf(1L);
+
+        // then
+        assertThat(before).isEqualTo(SaleState.UPCOMING);
+        assertThat(afterStart).isEqualTo(SaleState.ON_SALE);
+        assertThat(afterEnd).isEqualTo(SaleState.ENDED);
+        verify(listener).beforeSaleStart(item);
+        verify(listener).onSaleStateChanged(1L, SaleState.ON_SALE);
+        verify(listener).onSaleStateChanged(1L, SaleState.ENDED);
+    }
+
+    @Test
+    @DisplayName("판매 시작 준비 작업이 리드 타임만큼 먼저 실행되는지 테스트")
+    void register_runsPreSaleHookBeforeStart() {
+        // given
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        CatalogItem item = createItem(1L, NOW.plusMinutes(30), NOW.plusHours(1));
+        scheduler.register(List.of(item));
+
+        // when
+        setNow(NOW.plusMinutes(29));
+        scheduler.advance();
+
+        // then
+        verify(listener).beforeSaleStart(item);
+        verify(listener, never()).onSaleStateChanged(any(), any());
+        assertThat(scheduler.stateOf(1L)).isEqualTo(SaleState.UPCOMING);
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 이전 등록의 전환 예약은 무시되는지 테스트")
+    void register_replacesPreviousSchedule() {
+        // given
+        scheduler.register(List.of(createItem(1L, NOW.plusMinutes(30), NOW.plusHours(1))));
+        // 판매 시작이 1시간 뒤로 밀림
+        scheduler.register(List.of(createItem(1L, NOW.plusHours(1), NOW.plusHours(2))));
+
+        // when
+        setNow(NOW.plusMinutes(30));
+        scheduler.advance();
+
+        // then
+        assertThat(scheduler.stateOf(1L)).isEqualTo(SaleState.UPCOMING);
+        verify(listeners, never()).orderedStream();
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 이전 등록의 예약 작업이 휠에서 빠져 쌓이지 않는지 테스트")
+    void register_cancelsPreviousTimers() {
+        // given
+        CatalogItem item = createItem(1L, NOW.plusMinutes(30), NOW.plusHours(1));
+        HierarchicalTimingWheel wheel = (HierarchicalTimingWheel) ReflectionTestUtils.getField(scheduler, "wheel");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            scheduler.register(List.of(item));
+        }
+
+        // then
+        // 준비 작업, 판매 시작, 판매 종료 3건만 남는다
+        assertThat(wheel.pendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("판매 시작 준비 작업은 타이밍 휠 스레드가 아닌 실행기에서 돌아가는지 테스트")
+    void register_runsPreSaleOnExecutor() {
+        // given
+        List<Runnable> submitted = new ArrayList<>();
+        scheduler = new SaleLifecycleScheduler(listeners, 10, 64, 4, LEAD_MILLIS, clock, submitted::add);
+        CatalogItem item = createItem(1L, NOW.plusMinutes(30), NOW.plusHours(1));
+        scheduler.register(List.of(item));
+
+        // when
+        setNow(NOW.plusMinutes(29));
+        scheduler.advance();
+
+        // then
+        verify(listeners, never()).orderedStream();
+        assertThat(submitted).hasSize(1);
+
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        submitted.get(0).run();
+        verify(listener).beforeSaleStart(item);
+    }
+
+    @Test
+    @DisplayName("판매 중이 아닌 상품은 구매를 거절하고, 등록되지 않은 상품은 통과시키는지 테스트")
+    void checkPurchasable() {
+        // given
+        scheduler.register(List.of(
+            createItem(1L, NOW.minusHours(1), NOW.plusHours(1)),
+            createItem(2L, NOW.plusHours(1), NOW.plusHours(2)),
+            createItem(3L, NOW.minusHours(2), NOW.minusHours(1))));
+
+        // when & then
+        scheduler.checkPurchasable(1L);
+        scheduler.checkPurchasable(99L);
+        assertThatThrownBy(() -> scheduler.checkPurchasable(2L))
+            .isInstanceOf(ItemException.ItemNotOnSaleException.class);
+        assertThatThrownBy(() -> scheduler.checkPurchasable(3L))
+            .isInstanceOf(ItemException.ItemNotOnSaleException.class);
+        assertThat(scheduler.onSaleItemIds()).containsExactly(1L);
+    }
+}
@@ -0,0 +1,156 @@
+package com.flash.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.item.exception.ItemException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private StockWriteBehind stockWriteBehind;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @InjectMocks
+    private StockLedger stockLedger;
+
+    @Test
+    @DisplayName("첫 선점 시 DB 재고를 한 번만 적재하는지 테스트")
+    void tryReserve_loadsOnce() {
+        // given
+        when(stockWriteBehind.availableStock(1L)).thenReturn(10);
+
+        // when
+        boolean first = stockLedger.tryReserve(1L, 3);
+        boolean second = stockLedger.tryReserve(1L, 3);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(stockLedger.remaining(1L)).hasValue(4);
+        verify(stockWriteBehind, times(1)).availableStock(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품 선점 시 예외 발생 테스트")
+    void tryReserve_itemNotFound() {
+        // given
+        when(stockWriteBehind.availableStock(1L)).thenThrow(new ItemException.ItemNotFoundException());
+
+        // when & then
+        assertThatThrownBy(() -> stockLedger.tryReserve(1L, 1))
+            .isInstanceOf(ItemException.ItemNotFoundException.class);
+        assertThat(stockLedger.isLoaded(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고 부족 시 선점 실패 후 반환하면 다시 선점 가능한지 테스트")
+    void tryReserve_release() {
+        // given
+        stockLedger.load(1L, 1);
+
+        // when
+        boolean reserved = stockLedger.tryReserve(1L, 1);
+        boolean soldOut = stockLedger.tryReserve(1L, 1);
+        stockLedger.release(1L, 1);
+        boolean reservedAgain = stockLedger.tryReserve(1L, 1);
+
+        // then
+        assertAll(
+            () -> assertThat(reserved).isTrue(),
+            () -> assertThat(soldOut).isFalse(),
+            () -> assertThat(reservedAgain).isTrue(),
+            () -> assertThat(stockLedger.remaining(1L)).hasValue(0)
+        );
+        verify(soldOutRegistry, times(3)).markSoldOut(1L);
+        verify(soldOutRegistry).clear(1L);
+    }
+
+    @Test
+    @DisplayName("품절 판정과 표시 사이에 반환이 끼어들어도 품절 표시가 남지 않는지 테스트")
+    void tryReserve_releaseBetweenCheckAndMark() {
+        // given
+        // 품절 표시 직전에 다른 스레드의 반환(재고 증가 + 해제)이 먼저 끝나는 순서를 재현
+        StockLedger[] ledgerRef = new StockLedger[1];
+        SoldOutRegistry registry = new SoldOutRegistry() {
+            private boolean interleaved;
+
+            @Override
+            public void markSoldOut(Long itemId) {
+                if (!interleaved) {
+                    interleaved = true;
+                    ledgerRef[0].release(itemId, 1);
+                }
+                super.markSoldOut(itemId);
+            }
+        };
+        StockLedger ledger = new StockLedger(stockWriteBehind, registry);
+        ledgerRef[0] = ledger;
+        ledger.load(1L, 1);
+
+        // when
+        boolean reserved = ledger.tryReserve(1L, 1);
+
+        // then
+        assertAll(
+            () -> assertThat(reserved).isTrue(),
+            () -> assertThat(ledger.remaining(1L)).hasValue(1),
+            () -> assertThat(registry.isSoldOut(1L)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 200명이 100개 재고 선점")
+    void tryReserve_concurrent() throws InterruptedException {
+        // given
+        stockLedger.load(1L, 100);
+
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (stockLedger.tryReserve(1L, 1)) {
+                        successCount.incrementAndGet();
+                    } else {
+                        failCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(100),
+            () -> assertThat(failCount.get()).isEqualTo(100),
+            () -> assertThat(stockLedger.remaining(1L)).hasValue(0)
+        );
+    }
+}
@@ -0,0 +1,208 @@
+package com.flash.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.flash.item.controller.ItemController;
+import com.flash.item.domain.CatalogItem;
+import com.flash.item.domain.Item;
+import com.flash.item.exception.ItemException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class StockStreamBroadcasterTest {
+
+    @Mock
+    private ItemCatalogCache itemCatalogCache;
+
+    private LiveStockBoard liveStockBoard;
+
+    private StockStreamBroadcaster broadcaster;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        liveStockBoard = new LiveStockBoard();
+        broadcaster = new StockStreamBroadcaster(itemCatalogCache, liveStockBoard, 60_000, 2_000, 2);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ItemController(mock(ItemService.class), broadcaster)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private void givenOnSale(Long itemId, int stock) {
+        Item item = Item.builder()
+            .name("상품")
+            .description("설명")
+            .price(10000)
+            .stock(stock)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build();
+        ReflectionTestUtils.setField(item, "id", itemId);
+        when(itemCatalogCache.findOnSale(itemId)).thenReturn(Optional.of(CatalogItem.from(item)));
+        liveStockBoard.seed(itemId, stock);
+    }
+
+    private MockHttpServletResponse subscribe(Long itemId) throws Exception {
+        return mockMvc.perform(get("/api/items/" + itemId + "/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+    }
+
+    private String awaitContent(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    @DisplayName("구독 직후 현재 재고를 받고, 여러 번의 변경은 최신 값 한 번으로 합쳐 받는지 테스트")
+    void broadcast_coalescesChanges() throws Exception {
+        // given
+        givenOnSale(1L, 10);
+        MockHttpServletResponse first = subscribe(1L);
+        MockHttpServletResponse second = subscribe(1L);
+        awaitContent(first, content -> content.contains("\"stock\":10"));
+        awaitContent(second, content -> content.contains("\"stock\":10"));
+
+        // when
+        liveStockBoard.decrease(1L, 1);
+        liveStockBoard.decrease(1L, 1);
+        liveStockBoard.decrease(1L, 1);
+        broadcaster.broadcast();
+
+        // then
+        String firstContent = awaitContent(first, content -> content.contains("\"stock\":7"));
+        String secondContent = awaitContent(second, content -> content.contains("\"stock\":7"));
+        assertThat(firstContent).contains("event:stock").contains("\"stock\":7").doesNotContain("\"stock\":8");
+        assertThat(secondContent).contains("\"stock\":7").doesNotContain("\"stock\":9");
+        assertThat(broadcaster.subscriberCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고가 바뀌지 않으면 다시 보내지 않는지 테스트")
+    void broadcast_skipsUnchanged() throws Exception {
+        // given
+        givenOnSale(1L, 10);
+        MockHttpServletResponse response = subscribe(1L);
+        String before = awaitContent(response, content -> content.contains("\"stock\":10"));
+
+        // when
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+        Thread.sleep(50);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("판매 중이 아닌 상품은 구독할 수 없는지 테스트")
+    void subscribe_notOnSale() {
+        // given
+        when(itemCatalogCache.findOnSale(2L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> broadcaster.subscribe(2L))
+            .isInstanceOf(ItemException.ItemNotFoundException.class);
+        assertThat(broadcaster.subscriberCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("인터럽트로도 풀리지 않는 전송이 멈추면 구독자를 실패로 끝내고, 전송 허가가 다른 구독자에게 돌아가는지 테스트")
+    void broadcast_dropsStalledSubscriber() throws Exception {
+        // given
+        // 전송 허가 1개: 첫 구독자의 전송은 인터럽트를 무시하고 풀어줄 때까지 멈춘다
+        CountDownLatch stalledWriteStarted = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        SseEmitter stalledEmitter = new SseEmitter(60_000L) {
+            @Override
+            public void send(Set<DataWithMediaType> datas) {
+                stalledWriteStarted.countDown();
+                while (true) {
+                    try {
+                        unblock.await();
+                        return;
+                    } catch (InterruptedException ignored) {
+                        // 서블릿 출력 스트림처럼 인터럽트로 풀리지 않는다
+                    }
+                }
+            }
+
+            @Override
+            public void completeWithError(Throwable ex) {
+                failed.countDown();
+                super.completeWithError(ex);
+            }
+        };
+        broadcaster.shutdown();
+        broadcaster = new StockStreamBroadcaster(itemCatalogCache, liveStockBoard, 60_000, 100, 1) {
+            private boolean first = true;
+
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                if (first) {
+                    first = false;
+                    return stalledEmitter;
+                }
+                return super.createEmitter(timeoutMillis);
+            }
+        };
+        mockMvc = MockMvcBuilders.standaloneSetup(new ItemController(mock(ItemService.class), broadcaster)).build();
+        givenOnSale(1L, 10);
+        try {
+            broadcaster.subscribe(1L);
+            assertThat(stalledWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            MockHttpServletResponse fast = subscribe(1L);
+
+            // when
+            Thread.sleep(150);
+            broadcaster.broadcast();
+            String initial = awaitContent(fast, body -> body.contains("\"stock\":10"));
+            liveStockBoard.decrease(1L, 1);
+            broadcaster.broadcast();
+            String updated = awaitContent(fast, body -> body.contains("\"stock\":9"));
+
+            // then
+            // 멈춘 전송은 아직 끝나지 않았지만 다른 구독자는 계속 받는다
+            assertThat(unblock.getCount()).isEqualTo(1);
+            assertThat(initial).contains("\"stock\":10");
+            assertThat(updated).contains("\"stock\":9");
+            assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(broadcaster.subscriberCount(1L)).isEqualTo(1);
+        } finally {
+            unblock.countDown();
+        }
+    }
+}
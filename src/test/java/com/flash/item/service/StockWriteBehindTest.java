@@ -0,0 +1,208 @@
+package com.flash.item.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.item.domain.Item;
+import com.flash.item.repository.ItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StockWriteBehindTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private StockWriteBehind stockWriteBehind;
+
+    @BeforeEach
+    void setUp() {
+        stockWriteBehind = new StockWriteBehind(itemRepository, transactionManager, taskScheduler,
+            new SimpleMeterRegistry(), 10, 5);
+    }
+
+    @Test
+    @DisplayName("상품별 차감분을 합산하여 한 번에 반영하는지 테스트")
+    void flush_aggregatesPerItem() {
+        // given
+        stockWriteBehind.record(1L, 1);
+        stockWriteBehind.record(1L, 2);
+        stockWriteBehind.record(2L, 1);
+
+        // when
+        stockWriteBehind.flush();
+
+        // then
+        verify(itemRepository, times(1)).decreaseStock(1L, 3);
+        verify(itemRepository, times(1)).decreaseStock(2L, 1);
+        assertThat(stockWriteBehind.pending(1L)).isZero();
+        assertThat(stockWriteBehind.pending(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 차감분이 유지되는지 테스트")
+    void flush_keepsPendingOnFailure() {
+        // given
+        stockWriteBehind.record(1L, 3);
+        when(itemRepository.decreaseStock(1L, 3)).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        stockWriteBehind.flush();
+
+        // then
+        assertThat(stockWriteBehind.pending(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("임계치 도달 시 즉시 반영을 한 번만 예약하는지 테스트")
+    void record_schedulesFlushAtThreshold() {
+        // when
+        for (int i = 0; i < 9; i++) {
+            stockWriteBehind.record(1L, 1);
+        }
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        stockWriteBehind.record(1L, 1);
+        stockWriteBehind.record(1L, 1);
+
+        // then
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 차감분이 없으면 DB에 접근하지 않는지 테스트")
+    void flush_skipsWhenEmpty() {
+        // when
+        stockWriteBehind.flush();
+
+        // then
+        verify(itemRepository, never()).decreaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("DB 재고에서 지연 반영분을 뺀 값을 돌려주는지 테스트")
+    void availableStock_subtractsPending() {
+        // given
+        Item item = Item.builder()
+            .name("테스트 상품")
+            .description("테스트 설명")
+            .price(10000)
+            .stock(10)
+            .saleStart(LocalDateTime.now())
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build();
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        stockWriteBehind.record(1L, 3);
+
+        // when & then
+        assertThat(stockWriteBehind.availableStock(1L)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 반영이 끼어들면 다시 읽어 반영 후 값으로 돌려주는지 테스트")
+    void readConsistently_retriesAfterInterleavedFlush() throws Exception {
+        // given
+        // DB 10개, 대기 차감 3개. 첫 번째 읽기에서 DB 값을 읽은 직후 반영이 끝난다
+        AtomicInteger dbStock = new AtomicInteger(10);
+        AtomicInteger attempts = new AtomicInteger();
+        stockWriteBehind.record(1L, 3);
+        when(itemRepository.decreaseStock(1L, 3)).thenAnswer(invocation -> dbStock.addAndGet(-3));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        int available = stockWriteBehind.readConsistently(() -> {
+            int db = dbStock.get();
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    executorService.submit(stockWriteBehind::flush).get(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return db - stockWriteBehind.pending(1L);
+        });
+        executorService.shutdown();
+
+        // then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(available).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("DB 조회가 끝나지 않아도 주기 반영이 막히지 않는지 테스트")
+    void readConsistently_doesNotBlockFlush() throws Exception {
+        // given
+        stockWriteBehind.record(1L, 3);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<Integer> reader = executorService.submit(() -> stockWriteBehind.readConsistently(() -> {
+            reading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        }));
+        reading.await(5, TimeUnit.SECONDS);
+
+        // when
+        stockWriteBehind.flush();
+        release.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        verify(itemRepository, times(1)).decreaseStock(1L, 3);
+        assertThat(stockWriteBehind.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패로 차감분이 상한까지 쌓이면 밀린 상태가 되고, 반영되면 풀리는지 테스트")
+    void isBacklogged_untilFlushSucceeds() {
+        // given
+        when(itemRepository.decreaseStock(1L, 5))
+            .thenThrow(new IllegalStateException("DB 오류"))
+            .thenReturn(1);
+        stockWriteBehind.record(1L, 5);
+
+        // when
+        stockWriteBehind.flush();
+        boolean afterFailure = stockWriteBehind.isBacklogged();
+        stockWriteBehind.flush();
+
+        // then
+        assertThat(afterFailure).isTrue();
+        assertThat(stockWriteBehind.isBacklogged()).isFalse();
+    }
+}
@@ -1,28 +1,54 @@
 package com.flash.order.controller;
 
+import com.flash.common.db.ReadYourWritesContext;
+import com.flash.common.db.ReadYourWritesWindow;
+import com.flash.common.idempotency.IdempotencyCache;
+import com.flash.admission.domain.AdmissionTicket;
+import com.flash.admission.service.AdmissionService;
 import com.flash.item.domain.Item;
+import com.flash.item.exception.ItemException;
+import com.flash.item.service.SaleLifecycleScheduler;
+import com.flash.item.service.SoldOutRegistry;
 import com.flash.order.domain.Order;
+import com.flash.order.dto.OrderPageResponse;
 import com.flash.order.dto.OrderResponse;
+import com.flash.order.domain.PurchaseTicket;
+import com.flash.order.service.AsyncPurchaseProcessor;
 import com.flash.order.service.OrderService;
+import com.flash.order.service.PurchaseQuotaGuard;
+import com.flash.order.service.StockReservationStrategy;
+import com.flash.order.service.StockReservationStrategySelector;
 import com.flash.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
 
-@WebMvcTest(OrderController.class)
+// 복제본 설정을 켜 ReadYourWritesInterceptor 가 등록된 상태로 확인한다
+@WebMvcTest(controllers = OrderController.class, properties = "flash.datasource.replica.enabled=true")
+@Import(IdempotencyCache.class)
 class OrderControllerTest {
 
     @Autowired
@@ -31,6 +57,27 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private StockReservationStrategySelector strategySelector;
+
+    @MockBean
+    private AdmissionService admissionService;
+
+    @MockBean
+    private SaleLifecycleScheduler saleLifecycleScheduler;
+
+    @MockBean
+    private SoldOutRegistry soldOutRegistry;
+
+    @MockBean
+    private PurchaseQuotaGuard purchaseQuotaGuard;
+
+    @MockBean
+    private AsyncPurchaseProcessor asyncPurchaseProcessor;
+
+    @MockBean
+    private ReadYourWritesWindow readYourWritesWindow;
+
     @Test
     @DisplayName("주문 생성 API 테스트")
     void createOrder() throws Exception {
@@ -56,7 +103,9 @@ class OrderControllerTest {
             .quantity(2)
             .build();
 
-        when(orderService.createOrderV3(anyLong(), anyLong(), anyInt())).thenReturn(order);
+        StockReservationStrategy strategy = mock(StockReservationStrategy.class);
+        when(strategySelector.resolve(1L)).thenReturn(strategy);
+        when(strategy.purchase(anyLong(), anyLong(), anyInt())).thenReturn(OrderResponse.from(order));
 
         // when & then
         mockMvc.perform(post("/api/purchase")
@@ -66,6 +115,88 @@ class OrderControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("구매가 실패하면 수량 한도와 입장 번호를 되돌리는지 테스트")
+    void createOrder_failureRestoresAdmission() throws Exception {
+        // given
+        AdmissionTicket admission = new AdmissionTicket("token-1", 1L, 1L, 1);
+        when(admissionService.enter(1L, 1L, "token-1")).thenReturn(admission);
+        StockReservationStrategy strategy = mock(StockReservationStrategy.class);
+        when(strategySelector.resolve(1L)).thenReturn(strategy);
+        when(strategy.purchase(1L, 1L, 1)).thenThrow(new ItemException.OutOfStockException());
+
+        // when & then
+        mockMvc.perform(post("/api/purchase")
+                .header("X-Admission-Token", "token-1")
+                .param("userId", "1")
+                .param("itemId", "1"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code", is("OUT_OF_STOCK")));
+        verify(purchaseQuotaGuard).release(1L, 1L, 1);
+        verify(admissionService).restore(admission);
+    }
+
+    @Test
+    @DisplayName("품절 상품 구매 시 구매 처리 없이 SOLD_OUT 응답 테스트")
+    void createOrder_soldOut() throws Exception {
+        // given
+        when(soldOutRegistry.isSoldOut(1L)).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(post("/api/purchase")
+                .param("userId", "1")
+                .param("itemId", "1"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code", is("SOLD_OUT")));
+        verifyNoInteractions(strategySelector, admissionService, purchaseQuotaGuard);
+    }
+
+    @Test
+    @DisplayName("판매 기간이 아닌 상품 구매 시 구매 처리 없이 ITEM_NOT_ON_SALE 응답 테스트")
+    void createOrder_notOnSale() throws Exception {
+        // given
+        doThrow(new ItemException.ItemNotOnSaleException()).when(saleLifecycleScheduler).checkPurchasable(1L);
+
+        // when & then
+        mockMvc.perform(post("/api/purchase")
+                .param("userId", "1")
+                .param("itemId", "1"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code", is("ITEM_NOT_ON_SALE")));
+        verifyNoInteractions(strategySelector, soldOutRegistry, admissionService, purchaseQuotaGuard);
+    }
+
+    @Test
+    @DisplayName("비동기 구매 요청 시 202와 접수 번호를 바로 반환하는지 테스트")
+    void createOrderAsync() throws Exception {
+        // given
+        PurchaseTicket ticket = new PurchaseTicket("ticket-1", 1L, 1L, 1);
+        when(asyncPurchaseProcessor.submit(eq(1L), eq(1L), eq(1), any(Runnable.class))).thenReturn(ticket);
+
+        // when & then
+        mockMvc.perform(post("/api/purchase/async")
+                .param("userId", "1")
+                .param("itemId", "1"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.ticketId", is("ticket-1")))
+            .andExpect(jsonPath("$.status", is("PENDING")));
+    }
+
+    @Test
+    @DisplayName("비동기 구매 접수 번호로 처리 결과를 조회하는 API 테스트")
+    void getPurchaseTicket() throws Exception {
+        // given
+        PurchaseTicket ticket = new PurchaseTicket("ticket-1", 1L, 1L, 1);
+        ticket.complete(123456789012345678L, System.currentTimeMillis());
+        when(asyncPurchaseProcessor.getTicket("ticket-1")).thenReturn(ticket);
+
+        // when & then
+        mockMvc.perform(get("/api/purchase/tickets/ticket-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status", is("COMPLETED")))
+            .andExpect(jsonPath("$.orderId", is("123456789012345678")));
+    }
+
     @Test
     @DisplayName("사용자의 주문 목록 조회 API 테스트")
     void getUserOrders() throws Exception {
@@ -104,14 +235,77 @@ class OrderControllerTest {
             OrderResponse.from(order1),
             OrderResponse.from(order2)
         );
-        when(orderService.getOrdersByUserId(anyLong())).thenReturn(orders);
+        when(orderService.getOrdersByUserId(1L, "cursor-1", 2))
+            .thenReturn(new OrderPageResponse(orders, "cursor-2"));
 
         // when & then
         mockMvc.perform(get("/api/orders")
+                .param("userId", "1")
+                .param("cursor", "cursor-1")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orders", hasSize(2)))
+            .andExpect(jsonPath("$.orders[0].itemName", is("Item 1")))
+            .andExpect(jsonPath("$.orders[1].itemName", is("Item 2")))
+            .andExpect(jsonPath("$.nextCursor", is("cursor-2")));
+    }
+
+    @Test
+    @DisplayName("주문 내역 스트리밍 API가 한 줄에 주문 하나씩 내려주는지 테스트")
+    void streamUserOrders() throws Exception {
+        // given
+        // 페이지 단위로 나눠 읽어 이어 붙인다
+        when(orderService.getOrdersByUserId(1L, null, Integer.MAX_VALUE)).thenReturn(new OrderPageResponse(
+            List.of(new OrderResponse(1L, "Item 1", 1, 10000, Order.OrderStatus.PAID, LocalDateTime.now())),
+            "cursor-1"));
+        when(orderService.getOrdersByUserId(1L, "cursor-1", Integer.MAX_VALUE)).thenReturn(new OrderPageResponse(
+            List.of(new OrderResponse(2L, "Item 2", 2, 20000, Order.OrderStatus.PENDING, LocalDateTime.now())),
+            null));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/orders/stream")
                 .param("userId", "1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(2)))
-            .andExpect(jsonPath("$[0].itemName", is("Item 1")))
-            .andExpect(jsonPath("$[1].itemName", is("Item 2")));
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        // 마지막 줄까지 줄바꿈으로 끝나야 한다
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"itemName\":\"Item 1\"");
+        assertThat(lines[1]).contains("\"totalAmount\":40000");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 주문 내역 스트림도 비동기 스레드에서 원본 DB를 읽는지 테스트")
+    void streamUserOrders_withinWindow_readsPrimary() throws Exception {
+        // given
+        AtomicBoolean pinnedInBody = new AtomicBoolean();
+        when(readYourWritesWindow.isWithinWindow(1L)).thenReturn(true);
+        when(orderService.getOrdersByUserId(1L, null, Integer.MAX_VALUE)).thenAnswer(invocation -> {
+            pinnedInBody.set(ReadYourWritesContext.isPinnedToPrimary());
+            return new OrderPageResponse(
+                List.of(new OrderResponse(1L, "Item 1", 1, 10000, Order.OrderStatus.PAID, LocalDateTime.now())),
+                null);
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/orders/stream")
+                .param("userId", "1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        boolean pinnedOnRequestThread = ReadYourWritesContext.isPinnedToPrimary();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk());
+
+        // then
+        // 요청 스레드의 고정은 풀리고, 본문을 쓰는 스레드에서는 원본으로 고정된다
+        assertThat(pinnedOnRequestThread).isFalse();
+        assertThat(pinnedInBody.get()).isTrue();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.flash.order.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PurchaseQuotaTableTest {
+
+    @Test
+    @DisplayName("한도 안에서만 수량이 더해지고 반환하면 다시 확보 가능한지 테스트")
+    void tryAcquire_release() {
+        // given
+        PurchaseQuotaTable table = new PurchaseQuotaTable(16);
+        long key = PurchaseQuotaTable.pack(1L, 1L);
+
+        // when
+        boolean first = table.tryAcquire(key, 2, 2);
+        boolean overLimit = table.tryAcquire(key, 1, 2);
+        table.release(key, 1);
+        boolean afterRelease = table.tryAcquire(key, 1, 2);
+
+        // then
+        assertAll(
+            () -> assertThat(first).isTrue(),
+            () -> assertThat(overLimit).isFalse(),
+            () -> assertThat(afterRelease).isTrue(),
+            () -> assertThat(table.unitsOf(key)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("테이블이 가득 차도 넘친 키의 수량 제한이 유지되는지 테스트")
+    void tryAcquire_overflow() {
+        // given
+        PurchaseQuotaTable table = new PurchaseQuotaTable(2);
+
+        // when & then
+        for (long userId = 1; userId <= 10; userId++) {
+            long key = PurchaseQuotaTable.pack(userId, 1L);
+            assertThat(table.tryAcquire(key, 1, 1)).isTrue();
+            assertThat(table.tryAcquire(key, 1, 1)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("ID를 하나의 long으로 묶을 때 범위를 벗어나면 예외 발생 테스트")
+    void pack_outOfRange() {
+        assertThat(PurchaseQuotaTable.pack(1L, 2L)).isEqualTo((1L << 32) | 2L);
+        assertThatThrownBy(() -> PurchaseQuotaTable.pack(1L << 32, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PurchaseQuotaTable.pack(0L, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("묶을 수 있는 ID 범위 판별 테스트")
+    void packable() {
+        assertThat(PurchaseQuotaTable.packable(1L, 0xFFFFFFFFL)).isTrue();
+        assertThat(PurchaseQuotaTable.packable(1L << 32, 1L)).isFalse();
+        assertThat(PurchaseQuotaTable.packable(1L, 0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 같은 사용자가 동시에 100번 요청해도 한도만큼만 확보되는지 테스트")
+    void tryAcquire_concurrent_sameKey() throws InterruptedException {
+        // given
+        PurchaseQuotaTable table = new PurchaseQuotaTable(1024);
+        long key = PurchaseQuotaTable.pack(7L, 3L);
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (table.tryAcquire(key, 1, 3)) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(table.unitsOf(key)).isEqualTo(3);
+    }
+}
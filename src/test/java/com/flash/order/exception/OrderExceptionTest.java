@@ -42,4 +42,40 @@ class OrderExceptionTest {
         assertThat(exception.getMessage()).isEqualTo("잘못된 주문 상태입니다.");
         assertThat(exception.getCode()).isEqualTo("INVALID_ORDER_STATUS");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("PurchaseQueueFullException 생성 시 올바른 메시지와 코드가 설정되는지 확인")
+    void createPurchaseQueueFullException() {
+        // when
+        OrderException.PurchaseQueueFullException exception = 
+            new OrderException.PurchaseQueueFullException();
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("구매 요청이 많아 잠시 후 다시 시도해주세요.");
+        assertThat(exception.getCode()).isEqualTo("PURCHASE_QUEUE_FULL");
+    }
+
+    @Test
+    @DisplayName("PurchaseConflictException 생성 시 올바른 메시지와 코드가 설정되는지 확인")
+    void createPurchaseConflictException() {
+        // when
+        OrderException.PurchaseConflictException exception = 
+            new OrderException.PurchaseConflictException();
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("동시 구매 요청이 많아 주문에 실패했습니다. 다시 시도해주세요.");
+        assertThat(exception.getCode()).isEqualTo("PURCHASE_CONFLICT");
+    }
+
+    @Test
+    @DisplayName("PurchaseTicketNotFoundException 생성 시 올바른 메시지와 코드가 설정되는지 확인")
+    void createPurchaseTicketNotFoundException() {
+        // when
+        OrderException.PurchaseTicketNotFoundException exception =
+            new OrderException.PurchaseTicketNotFoundException();
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("구매 접수 번호를 찾을 수 없습니다.");
+        assertThat(exception.getCode()).isEqualTo("PURCHASE_TICKET_NOT_FOUND");
+    }
+}
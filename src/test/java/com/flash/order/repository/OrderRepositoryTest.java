@@ -0,0 +1,130 @@
+package com.flash.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.flash.item.domain.Item;
+import com.flash.order.domain.Order;
+import com.flash.order.dto.OrderResponse;
+import com.flash.user.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+// 내장 H2 에서 실행되는 SQL 문 수를 Hibernate 통계로 센다
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never"
+})
+class OrderRepositoryTest {
+
+    private static final int ORDER_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(User.builder()
+            .email("buyer@example.com")
+            .password("password123")
+            .name("Heavy Buyer")
+            .build());
+        userId = user.getId();
+
+        // 주문마다 다른 상품 (지연 로딩이면 상품 수만큼 SELECT 가 더 나간다)
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Item item = entityManager.persist(Item.builder()
+                .name("상품" + i)
+                .description("설명" + i)
+                .price(1000 * (i + 1))
+                .stock(10)
+                .saleStart(LocalDateTime.now().minusDays(1))
+                .saleEnd(LocalDateTime.now().plusDays(1))
+                .build());
+            entityManager.persist(Order.builder()
+                .user(user)
+                .item(item)
+                .quantity(2)
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회가 주문 수와 관계없이 SQL 한 번으로 끝나는지 테스트")
+    void findOrderPage_singleStatement() {
+        // when
+        List<OrderResponse> orders = orderRepository.findOrderPage(userId, PageRequest.ofSize(ORDER_COUNT));
+
+        // then
+        assertThat(orders).hasSize(ORDER_COUNT);
+        assertThat(orders).extracting(OrderResponse::getItemName).contains("상품0", "상품19");
+        assertThat(orders).extracting(OrderResponse::getTotalAmount).contains(2000, 40000);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서로 이어 읽으면 최신순으로 빠짐/중복 없이 모든 주문을 읽는지 테스트")
+    void findOrderPageAfter_walksAllOrders() {
+        // given
+        List<Long> expected = orderRepository.findByUserId(userId).stream()
+            .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId).reversed())
+            .map(Order::getId)
+            .toList();
+        Pageable limit = PageRequest.ofSize(7);
+
+        // when
+        List<Long> walked = new ArrayList<>();
+        List<OrderResponse> page = orderRepository.findOrderPage(userId, limit);
+        while (!page.isEmpty()) {
+            page.forEach(order -> walked.add(order.getId()));
+            OrderResponse last = page.get(page.size() - 1);
+            page = orderRepository.findOrderPageAfter(userId, last.getCreatedAt(), last.getId(), limit);
+        }
+
+        // then
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("엔티티로 읽어 응답을 만들면 주문마다 상품 SELECT 가 추가되는지 테스트 (비교용)")
+    void findByUserId_lazyItemPerOrder() {
+        // when
+        List<OrderResponse> orders = orderRepository.findByUserId(userId).stream()
+            .map(OrderResponse::from)
+            .toList();
+
+        // then
+        assertThat(orders).hasSize(ORDER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + ORDER_COUNT);
+    }
+}
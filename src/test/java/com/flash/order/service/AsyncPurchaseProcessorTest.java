@@ -0,0 +1,164 @@
+package com.flash.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.common.db.ReadYourWritesWindow;
+import com.flash.item.exception.ItemException;
+import com.flash.order.domain.Order;
+import com.flash.order.domain.PurchaseTicket;
+import com.flash.order.domain.PurchaseTicket.TicketStatus;
+import com.flash.order.dto.OrderResponse;
+import com.flash.order.exception.OrderException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPurchaseProcessorTest {
+
+    @Mock
+    private StockReservationStrategySelector strategySelector;
+
+    @Mock
+    private PurchaseQuotaGuard purchaseQuotaGuard;
+
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    @Mock
+    private StockReservationStrategy strategy;
+
+    private AsyncPurchaseProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("워커가 주문을 생성하면 접수 번호가 완료 상태가 되는지 테스트")
+    void submit_completes() throws InterruptedException {
+        // given
+        processor = new AsyncPurchaseProcessor(strategySelector, purchaseQuotaGuard, readYourWritesWindow, 2, 16, 300);
+        OrderResponse order = new OrderResponse(1L, "Test Item", 1, 10000, Order.OrderStatus.PENDING, LocalDateTime.now());
+        when(strategySelector.resolve(1L)).thenReturn(strategy);
+        when(strategy.purchase(1L, 1L, 1)).thenReturn(order);
+
+        // when
+        PurchaseTicket ticket = processor.submit(1L, 1L, 1);
+
+        // then
+        awaitFinished(ticket);
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.COMPLETED);
+        assertThat(processor.getTicket(ticket.getId())).isSameAs(ticket);
+    }
+
+    @Test
+    @DisplayName("재고 부족이면 품절 상태로 기록하고 구매 수량을 반환하는지 테스트")
+    void submit_soldOut() throws InterruptedException {
+        // given
+        processor = new AsyncPurchaseProcessor(strategySelector, purchaseQuotaGuard, readYourWritesWindow, 2, 16, 300);
+        when(strategySelector.resolve(1L)).thenReturn(strategy);
+        when(strategy.purchase(1L, 1L, 1)).thenThrow(new ItemException.OutOfStockException());
+
+        // when
+        PurchaseTicket ticket = processor.submit(1L, 1L, 1);
+
+        // then
+        awaitFinished(ticket);
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.SOLD_OUT);
+        assertThat(ticket.getErrorCode()).isEqualTo("OUT_OF_STOCK");
+        verify(purchaseQuotaGuard).release(1L, 1L, 1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 접수하지 않고 즉시 예외 발생 테스트")
+    void submit_queueFull() throws InterruptedException {
+        // given
+        processor = new AsyncPurchaseProcessor(strategySelector, purchaseQuotaGuard, readYourWritesWindow, 1, 1, 300);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(strategySelector.resolve(1L)).thenReturn(strategy);
+        when(strategy.purchase(1L, 1L, 1)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new OrderResponse(1L, "Test Item", 1, 10000, Order.OrderStatus.PENDING, LocalDateTime.now());
+        });
+
+        // when
+        processor.submit(1L, 1L, 1);
+        started.await(5, TimeUnit.SECONDS);
+        processor.submit(1L, 1L, 1);
+
+        // then
+        assertThatThrownBy(() -> processor.submit(2L, 1L, 1))
+            .isInstanceOf(OrderException.PurchaseQueueFullException.class);
+        verify(purchaseQuotaGuard).release(2L, 1L, 1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 작업을 실패로 끝내고 구매 수량과 입장 번호를 돌려주는지 테스트")
+    void shutdown_failsQueuedJobs() throws InterruptedException {
+        // given
+        processor = new AsyncPurchaseProcessor(strategySelector, purchaseQuotaGuard, readYourWritesWindow, 1, 16, 300);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger released = new AtomicInteger();
+        when(strategySelector.resolve(1L)).thenReturn(strategy);
+        when(strategy.purchase(1L, 1L, 1)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new OrderResponse(1L, "Test Item", 1, 10000, Order.OrderStatus.PENDING, LocalDateTime.now());
+        });
+        PurchaseTicket inProgress = processor.submit(1L, 1L, 1);
+        started.await(5, TimeUnit.SECONDS);
+        PurchaseTicket queued1 = processor.submit(2L, 1L, 1, released::incrementAndGet);
+        PurchaseTicket queued2 = processor.submit(3L, 1L, 2, released::incrementAndGet);
+
+        // when
+        processor.shutdown();
+        release.countDown();
+
+        // then
+        awaitFinished(inProgress);
+        assertThat(queued1.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(queued1.getErrorCode()).isEqualTo("PURCHASE_UNAVAILABLE");
+        assertThat(queued2.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(released.get()).isEqualTo(2);
+        verify(purchaseQuotaGuard).release(2L, 1L, 1);
+        verify(purchaseQuotaGuard).release(3L, 1L, 2);
+        assertThatThrownBy(() -> processor.submit(4L, 1L, 1))
+            .isInstanceOf(OrderException.PurchaseUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 접수 번호 조회 시 예외 발생 테스트")
+    void getTicket_notFound() {
+        // given
+        processor = new AsyncPurchaseProcessor(strategySelector, purchaseQuotaGuard, readYourWritesWindow, 1, 1, 300);
+
+        // when & then
+        assertThatThrownBy(() -> processor.getTicket("unknown"))
+            .isInstanceOf(OrderException.PurchaseTicketNotFoundException.class);
+    }
+
+    private void awaitFinished(PurchaseTicket ticket) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!ticket.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.flash.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flash.item.domain.Item;
+import com.flash.item.exception.ItemException;
+import com.flash.item.repository.ItemRepository;
+import com.flash.item.service.LiveStockBoard;
+import com.flash.item.service.SaleLifecycleScheduler;
+import com.flash.item.service.SoldOutRegistry;
+import com.flash.order.dto.OrderResponse;
+import com.flash.order.exception.OrderException;
+import com.flash.order.repository.OrderRepository;
+import com.flash.user.domain.User;
+import com.flash.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitPurchaseProcessorTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SaleLifecycleScheduler saleLifecycleScheduler;
+
+    private SoldOutRegistry soldOutRegistry;
+
+    private GroupCommitPurchaseProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        soldOutRegistry = new SoldOutRegistry();
+        processor = createProcessor(4, 5000);
+    }
+
+    private GroupCommitPurchaseProcessor createProcessor(int laneCount, long timeoutMillis) {
+        return new GroupCommitPurchaseProcessor(userRepository, itemRepository, orderRepository, soldOutRegistry,
+            new LiveStockBoard(), saleLifecycleScheduler, transactionManager, laneCount, 16, 8, timeoutMillis);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    private User createTestUser(Long id) {
+        User user = User.builder()
+            .email("user" + id + "@example.com")
+            .password("password123")
+            .name("Test User " + id)
+            .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    @Test
+    @DisplayName("재고 2개에 3명이 구매 요청 시 2명만 주문이 생성되는지 테스트")
+    void submit_allocatesWithinStock() throws Exception {
+        // given
+        Item item = Item.builder()
+            .name("Test Item")
+            .description("Test Description")
+            .price(10000)
+            .stock(2)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build();
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        when(itemRepository.findByIdWithPessimisticLock(1L)).thenReturn(Optional.of(item));
+        when(userRepository.findAllById(any()))
+            .thenReturn(List.of(createTestUser(1L), createTestUser(2L), createTestUser(3L)));
+
+        // when
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= 3; userId++) {
+            futures.add(processor.submit(userId, 1L, 1));
+        }
+
+        int successCount = 0;
+        int outOfStockCount = 0;
+        for (CompletableFuture<OrderResponse> future : futures) {
+            try {
+                OrderResponse order = future.get(5, TimeUnit.SECONDS);
+                assertThat(order.getItemName()).isEqualTo("Test Item");
+                successCount++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ItemException.OutOfStockException.class);
+                outOfStockCount++;
+            }
+        }
+
+        // then
+        assertThat(successCount).isEqualTo(2);
+        assertThat(outOfStockCount).isEqualTo(1);
+        assertThat(item.getStock()).isEqualTo(0);
+        assertThat(soldOutRegistry.isSoldOut(1L)).isTrue();
+        verify(orderRepository, atLeastOnce()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품 구매 시 호출자에게 원래 예외가 전달되는지 테스트")
+    void purchase_itemNotFound() {
+        // given
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        when(itemRepository.findByIdWithPessimisticLock(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> processor.purchase(1L, 1L, 1))
+            .isInstanceOf(ItemException.ItemNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("판매 중이 아닌 상품 ID는 버퍼에 넣지 않고 바로 거절하는지 테스트")
+    void purchase_notOnSale() {
+        // given
+        when(saleLifecycleScheduler.isOnSale(999L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> processor.purchase(1L, 999L, 1))
+            .isInstanceOf(ItemException.ItemNotOnSaleException.class);
+        verifyNoInteractions(itemRepository, userRepository, orderRepository);
+    }
+
+    @Test
+    @DisplayName("소비자가 제한 시간 안에 처리하지 못하면 시간 초과 예외로 응답하는지 테스트")
+    void purchase_timeout() throws Exception {
+        // given
+        processor.shutdown();
+        processor = createProcessor(1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        when(itemRepository.findByIdWithPessimisticLock(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> processor.purchase(1L, 1L, 1))
+                .isInstanceOf(OrderException.PurchaseTimeoutException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("레인이 배정한 뒤 커밋 전에 제한 시간이 지나도 시간 초과가 아닌 커밋된 주문으로 응답하는지 테스트")
+    void purchase_timeoutAfterClaim_completesWithOrder() throws Exception {
+        // given
+        processor.shutdown();
+        processor = createProcessor(1, 100);
+        Item item = Item.builder()
+            .name("Test Item")
+            .description("Test Description")
+            .price(10000)
+            .stock(1)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build();
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        when(itemRepository.findByIdWithPessimisticLock(1L)).thenReturn(Optional.of(item));
+        when(userRepository.findAllById(any())).thenReturn(List.of(createTestUser(1L)));
+        // 주문 INSERT 가 제한 시간보다 오래 걸린다
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return invocation.getArgument(0);
+        });
+
+        // when
+        OrderResponse order = processor.purchase(1L, 1L, 1);
+
+        // then
+        assertThat(order.getItemName()).isEqualTo("Test Item");
+        assertThat(item.getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 요청을 실패로 완료해 호출자가 계속 기다리지 않는지 테스트")
+    void shutdown_failsPendingRequests() throws Exception {
+        // given
+        processor.shutdown();
+        processor = createProcessor(1, 60_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(saleLifecycleScheduler.isOnSale(1L)).thenReturn(true);
+        when(itemRepository.findByIdWithPessimisticLock(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        processor.submit(1L, 1L, 1);
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<OrderResponse> queued = processor.submit(2L, 1L, 1);
+
+        // when
+        processor.shutdown();
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(OrderException.PurchaseUnavailableException.class);
+        assertThatThrownBy(() -> processor.purchase(3L, 1L, 1))
+            .isInstanceOf(OrderException.PurchaseUnavailableException.class);
+    }
+}
@@ -3,6 +3,8 @@ package com.flash.order.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,13 +12,23 @@ import static org.mockito.Mockito.when;
 import com.flash.item.domain.Item;
 import com.flash.item.exception.ItemException;
 import com.flash.item.repository.ItemRepository;
+import com.flash.item.repository.ItemSummary;
 import com.flash.item.service.ItemService;
+import com.flash.item.service.LiveStockBoard;
+import com.flash.item.service.SoldOutRegistry;
+import com.flash.item.service.StockLedger;
+import com.flash.item.service.StockWriteBehind;
 import com.flash.order.domain.Order;
+import com.flash.order.dto.OrderCursor;
+import com.flash.order.dto.OrderPageResponse;
 import com.flash.order.dto.OrderResponse;
+import com.flash.order.exception.OrderException;
 import com.flash.order.repository.OrderRepository;
 import com.flash.user.domain.User;
 import com.flash.user.repository.UserRepository;
 import com.flash.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -26,7 +38,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -46,9 +62,46 @@ class OrderServiceTest {
     @Mock
     private ItemService itemService;
 
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private StockWriteBehind stockWriteBehind;
+
+    @Mock
+    private SoldOutRegistry soldOutRegistry;
+
+    @Mock
+    private LiveStockBoard liveStockBoard;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
+    private ItemSummary createItemSummary() {
+        return new ItemSummary() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getName() {
+                return "Test Item";
+            }
+
+            @Override
+            public Integer getPrice() {
+                return 10000;
+            }
+        };
+    }
+
     @Test
     @DisplayName("주문 생성 테스트")
     void createOrder() {
@@ -79,12 +132,12 @@ class OrderServiceTest {
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
         // when
-        Order createdOrder = orderService.createOrder(1L, 1L, 2);
+        OrderResponse createdOrder = orderService.createOrder(1L, 1L, 2);
 
         // then
-        assertThat(createdOrder.getUser()).isEqualTo(user);
-        assertThat(createdOrder.getItem()).isEqualTo(item);
+        assertThat(createdOrder.getItemName()).isEqualTo("Test Item");
         assertThat(createdOrder.getQuantity()).isEqualTo(2);
+        assertThat(createdOrder.getTotalAmount()).isEqualTo(20000);
         verify(orderRepository, times(1)).save(any(Order.class));
     }
 
@@ -121,8 +174,33 @@ class OrderServiceTest {
     }
 
     @Test
-    @DisplayName("사용자의 모든 주문 조회 테스트")
-    void getUserOrders() {
+    @DisplayName("메모리 원장 선점 실패 시 DB 접근 없이 예외 발생 테스트")
+    void createOrderV4_soldOut() {
+        // given
+        when(stockLedger.tryReserve(1L, 1)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrderV4(1L, 1L, 1))
+            .isInstanceOf(ItemException.OutOfStockException.class);
+        verifyNoInteractions(userRepository, itemRepository, orderRepository);
+        verify(stockLedger, never()).releaseOnRollback(1L, 1);
+    }
+
+    @Test
+    @DisplayName("재고 반영이 밀려 차감분이 상한을 넘으면 원장 선점 없이 거절하는지 테스트")
+    void createOrderV4_backlogged() {
+        // given
+        when(stockWriteBehind.isBacklogged()).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrderV4(1L, 1L, 1))
+            .isInstanceOf(OrderException.PurchaseThrottledException.class);
+        verifyNoInteractions(stockLedger, userRepository, itemRepository, orderRepository);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 재고 차감 후 주문 생성 테스트")
+    void createOrderV5() {
         // given
         User user = User.builder()
             .email("test@example.com")
@@ -130,40 +208,146 @@ class OrderServiceTest {
             .name("Test User")
             .build();
 
-        Order order1 = Order.builder()
-            .user(user)
-            .item(Item.builder()
-                .name("Item 1")
-                .price(10000)
-                .stock(10)
-                .saleStart(LocalDateTime.now().minusDays(1))
-                .saleEnd(LocalDateTime.now().plusDays(1))
-                .build())
-            .quantity(1)
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(itemRepository.findSummaryById(1L)).thenReturn(Optional.of(createItemSummary()));
+        when(itemRepository.decreaseStockIfAvailable(1L, 2)).thenReturn(1);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OrderResponse createdOrder = orderService.createOrderV5(1L, 1L, 2);
+
+        // then
+        assertThat(createdOrder.getItemName()).isEqualTo("Test Item");
+        assertThat(createdOrder.getQuantity()).isEqualTo(2);
+        assertThat(createdOrder.getTotalAmount()).isEqualTo(20000);
+        verify(itemRepository, never()).findByIdWithPessimisticLock(any());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 영향 행이 없으면 재고 부족 예외 발생 테스트")
+    void createOrderV5_no_stock() {
+        // given
+        User user = User.builder()
+            .email("test@example.com")
+            .password("password123")
+            .name("Test User")
             .build();
 
-        Order order2 = Order.builder()
-            .user(user)
-            .item(Item.builder()
-                .name("Item 2")
-                .price(20000)
-                .stock(5)
-                .saleStart(LocalDateTime.now().minusDays(1))
-                .saleEnd(LocalDateTime.now().plusDays(1))
-                .build())
-            .quantity(2)
+        Item item = Item.builder()
+            .name("Test Item")
+            .description("Test Description")
+            .price(10000)
+            .stock(0)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
             .build();
 
-        List<Order> orders = Arrays.asList(order1, order2);
-        when(orderRepository.findByUserId(1L)).thenReturn(orders);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(itemRepository.findSummaryById(1L)).thenReturn(Optional.of(createItemSummary()));
+        when(itemRepository.decreaseStockIfAvailable(1L, 1)).thenReturn(0);
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrderV5(1L, 1L, 1))
+            .isInstanceOf(ItemException.OutOfStockException.class);
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(soldOutRegistry).markSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌 시 재시도 후 주문 생성 및 재시도 메트릭 기록 테스트")
+    void createOrderV6_retryOnConflict() {
+        // given
+        OrderResponse order = new OrderResponse(1L, "Test Item", 1, 10000, Order.OrderStatus.PENDING, LocalDateTime.now());
+
+        when(transactionTemplate.execute(any()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Item.class, 1L))
+            .thenReturn(order);
 
         // when
-        List<OrderResponse> foundOrders = orderService.getOrdersByUserId(1L);
+        OrderResponse createdOrder = orderService.createOrderV6(1L, 1L, 1);
 
         // then
-        assertThat(foundOrders).hasSize(2);
-        assertThat(foundOrders.get(0).getItemName()).isEqualTo("Item 1");
-        assertThat(foundOrders.get(1).getItemName()).isEqualTo("Item 2");
+        assertThat(createdOrder).isEqualTo(order);
+        assertThat(meterRegistry.counter("flash.purchase.optimistic.retries").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("flash.purchase.optimistic.retry.latency").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 재시도 횟수 초과 시 예외 발생 테스트")
+    void createOrderV6_exhausted() {
+        // given
+        when(transactionTemplate.execute(any()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Item.class, 1L));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrderV6(1L, 1L, 1))
+            .isInstanceOf(OrderException.PurchaseConflictException.class);
+        verify(transactionTemplate, times(5)).execute(any());
+        assertThat(meterRegistry.counter("flash.purchase.optimistic.exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 시 한 행을 더 읽어 다음 페이지 커서를 만드는지 테스트")
+    void getUserOrders_firstPage() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderResponse> rows = Arrays.asList(
+            new OrderResponse(3L, "Item 3", 1, 10000, Order.OrderStatus.PAID, now),
+            new OrderResponse(2L, "Item 2", 2, 20000, Order.OrderStatus.PAID, now.minusMinutes(1)),
+            new OrderResponse(1L, "Item 1", 1, 30000, Order.OrderStatus.PENDING, now.minusMinutes(2)));
+        when(orderRepository.findOrderPage(1L, PageRequest.ofSize(3))).thenReturn(rows);
+
+        // when
+        OrderPageResponse page = orderService.getOrdersByUserId(1L, null, 2);
+
+        // then
+        assertThat(page.getOrders()).extracting(OrderResponse::getId).containsExactly(3L, 2L);
+        OrderCursor next = OrderCursor.decode(page.getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getCreatedAt()).isEqualTo(now.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지를 조회하고 마지막 페이지면 커서가 없는지 테스트")
+    void getUserOrders_lastPage() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        OrderResponse last = new OrderResponse(1L, "Item 1", 1, 30000, Order.OrderStatus.PAID, now.minusMinutes(2));
+        String cursor = OrderCursor.after(
+            new OrderResponse(2L, "Item 2", 2, 20000, Order.OrderStatus.PAID, now.minusMinutes(1))).encode();
+        when(orderRepository.findOrderPageAfter(1L, now.minusMinutes(1), 2L, PageRequest.ofSize(3)))
+            .thenReturn(List.of(last));
+
+        // when
+        OrderPageResponse page = orderService.getOrdersByUserId(1L, cursor, 2);
+
+        // then
+        assertThat(page.getOrders()).containsExactly(last);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 상한을 넘으면 상한으로 제한되는지 테스트")
+    void getUserOrders_boundedPageSize() {
+        // given
+        when(orderRepository.findOrderPage(1L, PageRequest.ofSize(101))).thenReturn(List.of());
+
+        // when
+        OrderPageResponse page = orderService.getOrdersByUserId(1L, null, 10_000);
+
+        // then
+        assertThat(page.getOrders()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생 테스트")
+    void getUserOrders_invalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> orderService.getOrdersByUserId(1L, "not-a-cursor", 20))
+            .isInstanceOf(OrderException.InvalidOrderCursorException.class);
+        verifyNoInteractions(orderRepository);
     }
 
-} 
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.flash.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.flash.order.exception.OrderException;
+import com.flash.order.repository.OrderRepository;
+import com.flash.order.repository.UserPurchaseUnits;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseQuotaGuardTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("상품을 처음 볼 때만 DB 구매 수량을 적재하고 이후에는 메모리로 판단하는지 테스트")
+    void acquire_loadsExistingOrdersOnce() {
+        // given
+        PurchaseQuotaGuard guard = new PurchaseQuotaGuard(orderRepository, 1, 64);
+        when(orderRepository.sumQuantityByUserForItem(1L)).thenReturn(List.of(purchased(1L, 1L)));
+
+        // when & then
+        assertThatThrownBy(() -> guard.acquire(1L, 1L, 1))
+            .isInstanceOf(OrderException.DuplicateOrderException.class);
+        assertThatCode(() -> guard.acquire(2L, 1L, 1)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> guard.acquire(2L, 1L, 1))
+            .isInstanceOf(OrderException.DuplicateOrderException.class);
+        verify(orderRepository, times(1)).sumQuantityByUserForItem(1L);
+    }
+
+    @Test
+    @DisplayName("구매 실패로 수량을 반환하면 다시 구매할 수 있는지 테스트")
+    void release_allowsRetry() {
+        // given
+        PurchaseQuotaGuard guard = new PurchaseQuotaGuard(orderRepository, 1, 64);
+        when(orderRepository.sumQuantityByUserForItem(1L)).thenReturn(List.of());
+        guard.acquire(1L, 1L, 1);
+
+        // when
+        guard.release(1L, 1L, 1);
+
+        // then
+        assertThatCode(() -> guard.acquire(1L, 1L, 1)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("한도가 0이면 제한 없이 통과하고 DB에 접근하지 않는지 테스트")
+    void acquire_disabled() {
+        // given
+        PurchaseQuotaGuard guard = new PurchaseQuotaGuard(orderRepository, 0, 64);
+
+        // when & then
+        assertThatCode(() -> guard.acquire(1L, 1L, 100)).doesNotThrowAnyException();
+        verifyNoInteractions(orderRepository);
+        assertThat(ReflectionTestUtils.getField(guard, "table")).isNull();
+    }
+
+    @Test
+    @DisplayName("32비트 범위를 넘는 ID도 예외 없이 한도가 적용되는지 테스트")
+    void acquire_unpackableIds() {
+        // given
+        PurchaseQuotaGuard guard = new PurchaseQuotaGuard(orderRepository, 1, 64);
+        Long userId = 1L << 32;
+        when(orderRepository.sumQuantityByUserForItem(1L)).thenReturn(List.of());
+
+        // when & then
+        assertThatCode(() -> guard.acquire(userId, 1L, 1)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> guard.acquire(userId, 1L, 1))
+            .isInstanceOf(OrderException.DuplicateOrderException.class);
+        guard.release(userId, 1L, 1);
+        assertThatCode(() -> guard.acquire(userId, 1L, 1)).doesNotThrowAnyException();
+    }
+
+    private UserPurchaseUnits purchased(Long userId, Long units) {
+        return new UserPurchaseUnits() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUnits() {
+                return units;
+            }
+        };
+    }
+}
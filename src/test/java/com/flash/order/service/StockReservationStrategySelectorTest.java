@@ -0,0 +1,234 @@
+package com.flash.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.flash.item.service.StockLedger;
+import com.flash.item.service.StockWriteBehind;
+import com.flash.order.dto.OrderResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationStrategySelectorTest {
+
+    @Mock
+    private StockLedger stockLedger;
+
+    @Mock
+    private StockWriteBehind stockWriteBehind;
+
+    private StockReservationStrategySelector selector;
+
+    @BeforeEach
+    void setUp() {
+        List<StockReservationStrategy> strategies = Arrays.stream(StockReservationType.values())
+            .map(FakeStrategy::new)
+            .map(StockReservationStrategy.class::cast)
+            .toList();
+
+        PurchaseStrategyProperties properties = new PurchaseStrategyProperties();
+        properties.setDefaultType(StockReservationType.IN_MEMORY);
+        properties.setItems(Map.of(2L, StockReservationType.ATOMIC_UPDATE));
+
+        selector = new StockReservationStrategySelector(strategies, properties, stockLedger, stockWriteBehind);
+    }
+
+    @Test
+    @DisplayName("상품별 설정이 없으면 기본 방식을 사용하는지 테스트")
+    void resolve_usesItemTypeOrDefault() {
+        assertThat(selector.resolve(1L).type()).isEqualTo(StockReservationType.IN_MEMORY);
+        assertThat(selector.resolve(2L).type()).isEqualTo(StockReservationType.ATOMIC_UPDATE);
+    }
+
+    @Test
+    @DisplayName("상품 방식 변경 시 지연 반영분을 내리고 해당 상품 원장만 비우는지 테스트")
+    void change_resyncsItem() {
+        // when
+        selector.change(1L, StockReservationType.PESSIMISTIC);
+
+        // then
+        assertThat(selector.resolve(1L).type()).isEqualTo(StockReservationType.PESSIMISTIC);
+        verify(stockWriteBehind).flushNow();
+        verify(stockLedger).evict(1L);
+        verify(stockLedger, never()).evictAll();
+    }
+
+    @Test
+    @DisplayName("같은 방식으로 변경하면 재동기화하지 않는지 테스트")
+    void change_sameType_noResync() {
+        // when
+        selector.change(2L, StockReservationType.ATOMIC_UPDATE);
+
+        // then
+        verify(stockWriteBehind, never()).flushNow();
+        verify(stockLedger, never()).evict(2L);
+    }
+
+    @Test
+    @DisplayName("기본 방식 변경 시 전체 원장을 비우고 상품별 설정은 유지되는지 테스트")
+    void changeDefault_evictsAll() {
+        // when
+        selector.changeDefault(StockReservationType.OPTIMISTIC);
+
+        // then
+        assertThat(selector.resolve(1L).type()).isEqualTo(StockReservationType.OPTIMISTIC);
+        assertThat(selector.resolve(2L).type()).isEqualTo(StockReservationType.ATOMIC_UPDATE);
+        verify(stockWriteBehind).flushNow();
+        verify(stockLedger).evictAll();
+    }
+
+    @Test
+    @DisplayName("상품별 설정 해제 시 기본 방식으로 돌아가는지 테스트")
+    void reset_fallsBackToDefault() {
+        // when
+        selector.reset(2L);
+
+        // then
+        assertThat(selector.resolve(2L).type()).isEqualTo(StockReservationType.IN_MEMORY);
+        assertThat(selector.getItemTypes()).isEmpty();
+        verify(stockLedger).evict(2L);
+    }
+
+    @Test
+    @DisplayName("방식 전환은 진행 중인 구매가 끝난 뒤에 지연 반영분을 내리고 원장을 비우는지 테스트")
+    void change_waitsForInFlightPurchase() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StockReservationStrategy blocking = new StockReservationStrategy() {
+            @Override
+            public StockReservationType type() {
+                return StockReservationType.IN_MEMORY;
+            }
+
+            @Override
+            public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+        };
+        selector = new StockReservationStrategySelector(
+            List.of(blocking, new FakeStrategy(StockReservationType.PESSIMISTIC)),
+            new PurchaseStrategyProperties(), stockLedger, stockWriteBehind);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<?> purchase = executorService.submit(() -> selector.resolve(1L).purchase(1L, 1L, 1));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<?> change = executorService.submit(() -> selector.change(1L, StockReservationType.PESSIMISTIC));
+
+        // then
+        verify(stockWriteBehind, after(200).never()).flushNow();
+        release.countDown();
+        change.get(5, TimeUnit.SECONDS);
+        purchase.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+        verify(stockWriteBehind).flushNow();
+        verify(stockLedger).evict(1L);
+    }
+
+    @Test
+    @DisplayName("구매 도중 DB 기반 방식으로 바꿔도 원장 차감분이 내려가기 전에는 새 방식이 쓰이지 않아 초과 판매가 없는지 테스트")
+    void changeDefault_midPurchase_noOversell() throws Exception {
+        // given
+        // DB 재고 1개, 메모리 원장 구매는 지연 반영분만 남기고 DB는 flushNow 때 줄어든다
+        AtomicInteger dbStock = new AtomicInteger(1);
+        AtomicInteger unflushed = new AtomicInteger();
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StockReservationStrategy inMemory = new StockReservationStrategy() {
+            @Override
+            public StockReservationType type() {
+                return StockReservationType.IN_MEMORY;
+            }
+
+            @Override
+            public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                unflushed.addAndGet(quantity);
+                sold.addAndGet(quantity);
+                return null;
+            }
+        };
+        StockReservationStrategy pessimistic = new StockReservationStrategy() {
+            @Override
+            public StockReservationType type() {
+                return StockReservationType.PESSIMISTIC;
+            }
+
+            @Override
+            public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+                if (dbStock.get() >= quantity) {
+                    dbStock.addAndGet(-quantity);
+                    sold.addAndGet(quantity);
+                }
+                return null;
+            }
+        };
+        doAnswer(invocation -> dbStock.addAndGet(-unflushed.getAndSet(0))).when(stockWriteBehind).flushNow();
+        selector = new StockReservationStrategySelector(List.of(inMemory, pessimistic),
+            new PurchaseStrategyProperties(), stockLedger, stockWriteBehind);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        Future<?> first = executorService.submit(() -> selector.resolve(1L).purchase(1L, 1L, 1));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<?> change = executorService.submit(() -> selector.changeDefault(StockReservationType.PESSIMISTIC));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!(boolean) ReflectionTestUtils.getField(selector, "resyncing") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        // 진행 중인 구매가 끝나기 전에는 새 방식이 공개되지 않는다
+        StockReservationType duringDrain = selector.getDefaultType();
+        Future<?> second = executorService.submit(() -> selector.resolve(1L).purchase(2L, 1L, 1));
+        Thread.sleep(100);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        change.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(duringDrain).isEqualTo(StockReservationType.IN_MEMORY);
+        assertThat(selector.getDefaultType()).isEqualTo(StockReservationType.PESSIMISTIC);
+        assertThat(sold.get()).isEqualTo(1);
+        assertThat(dbStock.get()).isZero();
+    }
+
+    private record FakeStrategy(StockReservationType type) implements StockReservationStrategy {
+
+        @Override
+        public OrderResponse purchase(Long userId, Long itemId, Integer quantity) {
+            return null;
+        }
+    }
+}
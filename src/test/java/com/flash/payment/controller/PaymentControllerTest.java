@@ -1,17 +1,19 @@
 package com.flash.payment.controller;
 
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.flash.common.idempotency.IdempotencyCache;
 import com.flash.item.domain.Item;
 import com.flash.order.domain.Order;
-import com.flash.order.service.OrderService;
 import com.flash.payment.domain.Payment;
+import com.flash.payment.dto.PaymentResponse;
 import com.flash.payment.service.PaymentService;
 import com.flash.user.domain.User;
 import java.time.LocalDateTime;
@@ -20,9 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(PaymentController.class)
+@Import(IdempotencyCache.class)
 class PaymentControllerTest {
 
     @Autowired
@@ -31,9 +35,6 @@ class PaymentControllerTest {
     @MockBean
     private PaymentService paymentService;
 
-    @MockBean
-    private OrderService orderService;
-
     @Test
     @DisplayName("결제 생성 API 테스트")
     void createPayment() throws Exception {
@@ -63,8 +64,7 @@ class PaymentControllerTest {
             .amount(10000)
             .build();
 
-        when(orderService.getOrder(anyLong())).thenReturn(order);
-        when(paymentService.createPayment(any(Order.class))).thenReturn(payment);
+        when(paymentService.createPayment(anyLong())).thenReturn(PaymentResponse.from(payment));
 
         // when & then
         mockMvc.perform(post("/api/payment")
@@ -104,7 +104,7 @@ class PaymentControllerTest {
             .build();
         payment.complete();
 
-        when(paymentService.processPayment(anyLong())).thenReturn(payment);
+        when(paymentService.processPayment(anyLong())).thenReturn(PaymentResponse.from(payment));
 
         // when & then
         mockMvc.perform(post("/api/payment/process")
@@ -113,4 +113,47 @@ class PaymentControllerTest {
             .andExpect(jsonPath("$.amount", is(10000)))
             .andExpect(jsonPath("$.status", is("COMPLETED")));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재전송된 결제 처리 요청은 한 번만 처리되는지 테스트")
+    void processPayment_idempotent() throws Exception {
+        // given
+        User user = User.builder()
+            .email("test@example.com")
+            .password("password123")
+            .name("Test User")
+            .build();
+
+        Item item = Item.builder()
+            .name("Test Item")
+            .price(10000)
+            .stock(10)
+            .saleStart(LocalDateTime.now().minusDays(1))
+            .saleEnd(LocalDateTime.now().plusDays(1))
+            .build();
+
+        Order order = Order.builder()
+            .user(user)
+            .item(item)
+            .quantity(1)
+            .build();
+
+        Payment payment = Payment.builder()
+            .order(order)
+            .amount(10000)
+            .build();
+        payment.complete();
+
+        when(paymentService.processPayment(anyLong())).thenReturn(PaymentResponse.from(payment));
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/payment/process")
+                    .header("Idempotency-Key", "retry-1")
+                    .param("paymentId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("COMPLETED")));
+        }
+        verify(paymentService, times(1)).processPayment(1L);
+    }
+}
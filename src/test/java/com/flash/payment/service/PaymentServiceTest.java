@@ -3,7 +3,9 @@ package com.flash.payment.service;
 import com.flash.item.domain.Item;
 import com.flash.order.domain.Order;
 import com.flash.order.exception.OrderException;
+import com.flash.order.repository.OrderRepository;
 import com.flash.payment.domain.Payment;
+import com.flash.payment.dto.PaymentResponse;
 import com.flash.payment.exception.PaymentException;
 import com.flash.payment.repository.PaymentRepository;
 import com.flash.user.domain.User;
@@ -26,6 +28,9 @@ class PaymentServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private OrderRepository orderRepository;
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -63,15 +68,26 @@ class PaymentServiceTest {
             .amount(10000)
             .build();
 
+        when(orderRepository.findWithItemById(1L)).thenReturn(Optional.of(order));
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
 
         // when
-        Payment createdPayment = paymentService.createPayment(order);
+        PaymentResponse createdPayment = paymentService.createPayment(1L);
 
         // then
-        assertThat(createdPayment.getOrder()).isEqualTo(order);
         assertThat(createdPayment.getAmount()).isEqualTo(10000);
-        assertThat(createdPayment.getStatus()).isEqualTo(Payment.PaymentStatus.PENDING);
+        assertThat(createdPayment.getStatus()).isEqualTo(Payment.PaymentStatus.PENDING.name());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 주문으로 결제 생성 시도 시 예외 발생")
+    void createPaymentOrderNotFound() {
+        // given
+        when(orderRepository.findWithItemById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.createPayment(1L))
+            .isInstanceOf(OrderException.OrderNotFoundException.class);
     }
 
     @Test
@@ -84,9 +100,10 @@ class PaymentServiceTest {
             .quantity(1)
             .build();
         order.updateStatus(Order.OrderStatus.PAID);
+        when(orderRepository.findWithItemById(1L)).thenReturn(Optional.of(order));
 
         // when & then
-        assertThatThrownBy(() -> paymentService.createPayment(order))
+        assertThatThrownBy(() -> paymentService.createPayment(1L))
             .isInstanceOf(OrderException.InvalidOrderStatusException.class);
     }
 
@@ -108,11 +125,11 @@ class PaymentServiceTest {
         when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment));
 
         // when
-        Payment processedPayment = paymentService.processPayment(1L);
+        PaymentResponse processedPayment = paymentService.processPayment(1L);
 
         // then
-        assertThat(processedPayment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
-        assertThat(processedPayment.getOrder().getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(processedPayment.getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED.name());
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.PAID);
     }
 
     @Test